@@ -0,0 +1,92 @@
+package com.yourcompany.workforcemgmt.benchmark;
+
+import com.yourcompany.workforcemgmt.deadlines.DeadlineProperties;
+import com.yourcompany.workforcemgmt.deadlines.DeadlineScheduler;
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of keeping deadline timers in step with task changes, by number pending
+ *
+ * Every task is ACTIVE with a due date in the next 30 days and an
+ * escalation timer a day before it, so "pending" tasks hold twice as many
+ * timers. Moving a due date cancels both and schedules two more; tracking
+ * a task whose due date is unchanged is what every other write pays.
+ * Neither walks the pending timers, so going from ten thousand tasks to a
+ * million only adds the cache misses of touching a random one of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeadlineSchedulerBenchmark {
+
+    private static final long MONTH_MICROS = Duration.ofDays(30).toNanos() / 1000;
+
+    @Param({"10000", "1000000"})
+    public int pending;
+
+    private DeadlineScheduler scheduler;
+    private Task[] tasks;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DeadlineProperties properties = new DeadlineProperties();
+        properties.setEscalateBefore(Duration.ofDays(1));
+        scheduler = new DeadlineScheduler(properties, new MetricsRegistry());
+        now = Timestamps.now();
+        SplittableRandom random = new SplittableRandom(42);
+        tasks = new Task[pending];
+        for (int i = 0; i < pending; i++) {
+            Task task = TaskFixtures.task(random, i % TaskFixtures.STAFF_COUNT, 0);
+            task.setStatus(TaskStatus.ACTIVE);
+            task.setDueDate(now + random.nextLong(MONTH_MICROS));
+            scheduler.track(task);
+            tasks[i] = task;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%d timers pending%n", scheduler.pendingTimers());
+    }
+
+    @Benchmark
+    public Task moveDueDate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Task task = tasks[random.nextInt(tasks.length)];
+        task.setDueDate(now + random.nextLong(MONTH_MICROS));
+        scheduler.track(task);
+        return task;
+    }
+
+    @Benchmark
+    public Task trackUnchanged() {
+        Task task = tasks[ThreadLocalRandom.current().nextInt(tasks.length)];
+        scheduler.track(task);
+        return task;
+    }
+}
@@ -0,0 +1,58 @@
+package com.yourcompany.workforcemgmt.benchmark;
+
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.service.IdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of generating one ID: UUID.randomUUID() against IdGenerator
+ *
+ * Each is measured from one thread and from four at once. The four-thread
+ * runs show what a write burst pays when every request thread draws IDs
+ * together; on a machine with fewer cores than threads they mostly measure
+ * time slicing instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    private final IdGenerator generator = new IdGenerator();
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public TaskId timeOrdered() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID randomUuidFourThreads() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public TaskId timeOrderedFourThreads() {
+        return generator.next();
+    }
+}
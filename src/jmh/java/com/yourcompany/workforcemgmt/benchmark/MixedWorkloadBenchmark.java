@@ -0,0 +1,104 @@
+package com.yourcompany.workforcemgmt.benchmark;
+
+import com.yourcompany.workforcemgmt.dto.AddCommentRequest;
+import com.yourcompany.workforcemgmt.dto.TaskDto;
+import com.yourcompany.workforcemgmt.dto.TaskPage;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent readers and writers sharing one store
+ *
+ * Each group runs its read and write methods on separate threads at the
+ * same time; JMH reports the throughput of each side and of the group.
+ * "readHeavy" is the usual dashboard load, "writeHeavy" a bulk import or
+ * shift change.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MixedWorkloadBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int taskCount;
+
+    @Param({"10"})
+    public int historyLength;
+
+    private TaskFixtures.Dataset data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = TaskFixtures.generate(taskCount, historyLength);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(6)
+    public TaskPage readHeavyRead() {
+        return read();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(2)
+    public TaskDto readHeavyWrite() {
+        return write();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(2)
+    public TaskPage writeHeavyRead() {
+        return read();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(6)
+    public TaskDto writeHeavyWrite() {
+        return write();
+    }
+
+    private TaskPage read() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextBoolean()) {
+            return data.service().getTasksByStaffId(data.staffId(random.nextInt(TaskFixtures.STAFF_COUNT)),
+                    null, PAGE_SIZE, null);
+        }
+        LocalDate from = TaskFixtures.FIRST_DAY.plusDays(random.nextInt(TaskFixtures.DAYS));
+        return data.service().getTasksByDateRange(from, from.plusDays(6), null, PAGE_SIZE, null);
+    }
+
+    private TaskDto write() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String taskId = data.taskIds()[random.nextInt(data.taskIds().length)];
+        if (random.nextBoolean()) {
+            return data.service().addCommentToTask(taskId, new AddCommentRequest("Benchmark comment", "benchmark"));
+        }
+        TaskStatus status = random.nextBoolean() ? TaskStatus.ACTIVE : TaskStatus.COMPLETED;
+        return data.service().updateTaskStatus(taskId, status, "benchmark");
+    }
+}
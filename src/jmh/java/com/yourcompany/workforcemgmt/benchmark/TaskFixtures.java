@@ -0,0 +1,120 @@
+package com.yourcompany.workforcemgmt.benchmark;
+
+import com.yourcompany.workforcemgmt.assignment.StaffLoadBalancer;
+import com.yourcompany.workforcemgmt.deadlines.DeadlineProperties;
+import com.yourcompany.workforcemgmt.deadlines.DeadlineScheduler;
+import com.yourcompany.workforcemgmt.events.StaffEventFeed;
+import com.yourcompany.workforcemgmt.events.TaskEventProperties;
+import com.yourcompany.workforcemgmt.mapper.TaskMapper;
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import com.yourcompany.workforcemgmt.model.ActivityAction;
+import com.yourcompany.workforcemgmt.model.ActivityLog;
+import com.yourcompany.workforcemgmt.model.AppendOnlyLog;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import com.yourcompany.workforcemgmt.search.TaskSearchIndex;
+import com.yourcompany.workforcemgmt.service.IdGenerator;
+import com.yourcompany.workforcemgmt.service.TaskService;
+import com.yourcompany.workforcemgmt.service.ViewCache;
+import com.yourcompany.workforcemgmt.service.ViewCacheProperties;
+import com.yourcompany.workforcemgmt.service.ViewVersions;
+import com.yourcompany.workforcemgmt.store.InMemoryTaskStore;
+import com.yourcompany.workforcemgmt.store.TaskStore;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Generated data sets for the benchmarks
+ *
+ * Tasks are spread over a fixed number of staff members and a year of start
+ * dates, with roughly 80% ACTIVE, 15% COMPLETED and 5% CANCELLED. Every task
+ * gets the requested number of activity entries. Generation is seeded, so two
+ * runs with the same parameters benchmark the same data.
+ */
+final class TaskFixtures {
+
+    static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    static final int DAYS = 365;
+    static final int STAFF_COUNT = 1_000;
+    private static final long SEED = 42;
+
+    /**
+     * Store, service and the IDs that were generated into them
+     */
+    record Dataset(TaskStore store, TaskService service, TaskMapper mapper, String[] taskIds) {
+
+        String staffId(int index) {
+            return TaskFixtures.staffId(index % STAFF_COUNT);
+        }
+    }
+
+    private TaskFixtures() {
+    }
+
+    static Dataset generate(int taskCount, int historyLength) {
+        return generate(taskCount, historyLength, InMemoryTaskStore.DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripes number of store write locks; 1 makes every write take one global lock
+     */
+    static Dataset generate(int taskCount, int historyLength, int stripes) {
+        TaskStore store = new InMemoryTaskStore(stripes);
+        TaskMapper mapper = new TaskMapper();
+        MetricsRegistry metrics = new MetricsRegistry();
+        TaskService service = new TaskService(store, mapper, new IdGenerator(), new TaskSearchIndex(store),
+                new StaffEventFeed(new TaskEventProperties(), mapper, metrics), new ViewVersions(),
+                new ViewCache(new ViewCacheProperties(), metrics),
+                new DeadlineScheduler(new DeadlineProperties(), metrics), new StaffLoadBalancer(metrics), metrics);
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] ids = new String[taskCount];
+        for (int i = 0; i < taskCount; i++) {
+            Task task = task(random, i % STAFF_COUNT, historyLength);
+            store.save(task);
+            ids[i] = task.getId().toString();
+        }
+        return new Dataset(store, service, mapper, ids);
+    }
+
+    static Task task(SplittableRandom random, int staffIndex, int historyLength) {
+        TaskId id = new TaskId(random.nextLong(), random.nextLong());
+        long start = Timestamps.of(FIRST_DAY.plusDays(random.nextInt(DAYS)).atTime(9, 0));
+        int roll = random.nextInt(100);
+        TaskStatus status = roll < 80 ? TaskStatus.ACTIVE : roll < 95 ? TaskStatus.COMPLETED : TaskStatus.CANCELLED;
+        Task task = Task.builder()
+                .id(id)
+                .title("Task " + id.toString().substring(0, 8))
+                .description("Generated benchmark task")
+                .status(status)
+                .priority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)])
+                .assignedStaffId(staffId(staffIndex))
+                .startDate(start)
+                .dueDate(Timestamps.plusDays(start, 1 + random.nextInt(14)))
+                .createdAt(Timestamps.plusDays(start, -1))
+                .updatedAt(Timestamps.plusDays(start, -1))
+                .createdBy("generator")
+                .activityHistory(new AppendOnlyLog<>())
+                .comments(new AppendOnlyLog<>())
+                .build();
+        for (int h = 0; h < historyLength; h++) {
+            task.getActivityHistory().append(ActivityLog.builder()
+                    .idHigh(random.nextLong())
+                    .idLow(random.nextLong())
+                    .userId("generator")
+                    .action(ActivityAction.STATUS_UPDATED)
+                    .from(TaskStatus.ACTIVE.name())
+                    .to(status.name())
+                    .timestamp(task.getCreatedAt())
+                    .build());
+        }
+        return task;
+    }
+
+    static String staffId(int index) {
+        return "staff-" + index;
+    }
+}
@@ -0,0 +1,82 @@
+package com.yourcompany.workforcemgmt.benchmark;
+
+import com.yourcompany.workforcemgmt.dto.AddCommentRequest;
+import com.yourcompany.workforcemgmt.dto.TaskDto;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write throughput with per-task lock stripes against one global lock
+ *
+ * Eight threads write to random tasks, either straight through the store
+ * or through the service, which adds history entries, view versions and
+ * events around the locked part. "stripes" 1 is the global lock; 256 is
+ * the store's default. The gap between them grows with the number of
+ * cores, so compare runs made on the same machine; with fewer cores than
+ * threads the global lock mostly costs context switches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class TaskLockingBenchmark {
+
+    @Param({"1", "256"})
+    public int stripes;
+
+    @Param({"100000"})
+    public int taskCount;
+
+    @Param({"10"})
+    public int historyLength;
+
+    private TaskFixtures.Dataset data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = TaskFixtures.generate(taskCount, historyLength, stripes);
+    }
+
+    @Benchmark
+    public Task storeUpdate() {
+        return data.store().update(randomTaskId(), task -> {
+            task.setUpdatedAt(Timestamps.now());
+            task.setVersion(task.getVersion() + 1);
+        });
+    }
+
+    @Benchmark
+    public TaskDto serviceWrite() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String taskId = randomTaskId();
+        if (random.nextBoolean()) {
+            return data.service().addCommentToTask(taskId, new AddCommentRequest("Benchmark comment", "benchmark"));
+        }
+        TaskStatus status = random.nextBoolean() ? TaskStatus.ACTIVE : TaskStatus.COMPLETED;
+        return data.service().updateTaskStatus(taskId, status, "benchmark");
+    }
+
+    private String randomTaskId() {
+        return data.taskIds()[ThreadLocalRandom.current().nextInt(data.taskIds().length)];
+    }
+}
@@ -0,0 +1,57 @@
+package com.yourcompany.workforcemgmt.benchmark;
+
+import com.yourcompany.workforcemgmt.dto.TaskDto;
+import com.yourcompany.workforcemgmt.dto.TaskSummaryDto;
+import com.yourcompany.workforcemgmt.mapper.TaskMapper;
+import com.yourcompany.workforcemgmt.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping one task to its full DTO, by history length
+ *
+ * The summary mapping is measured next to it as the baseline the list
+ * endpoints pay per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    @Param({"0", "10", "100", "1000"})
+    public int historyLength;
+
+    private final TaskMapper mapper = new TaskMapper();
+    private Task task;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        task = TaskFixtures.task(new SplittableRandom(7), 0, historyLength);
+    }
+
+    @Benchmark
+    public TaskDto taskToTaskDto() {
+        return mapper.taskToTaskDto(task);
+    }
+
+    @Benchmark
+    public TaskSummaryDto taskToTaskSummaryDto() {
+        return mapper.taskToTaskSummaryDto(task);
+    }
+}
@@ -0,0 +1,105 @@
+package com.yourcompany.workforcemgmt.benchmark;
+
+import com.yourcompany.workforcemgmt.dto.AddCommentRequest;
+import com.yourcompany.workforcemgmt.dto.AssignTaskRequest;
+import com.yourcompany.workforcemgmt.dto.CreateTaskRequest;
+import com.yourcompany.workforcemgmt.dto.TaskDto;
+import com.yourcompany.workforcemgmt.dto.TaskPage;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded cost of the TaskService operations behind the API
+ *
+ * List benchmarks fetch the first page of 100 summaries, which is what the
+ * list endpoints serve by default. Write benchmarks grow the store as they
+ * run; at these sizes the growth over a run is small next to the data set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"10000", "1000000", "10000000"})
+    public int taskCount;
+
+    @Param({"10"})
+    public int historyLength;
+
+    private TaskFixtures.Dataset data;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = TaskFixtures.generate(taskCount, historyLength);
+    }
+
+    @Benchmark
+    public TaskDto createTask() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate day = TaskFixtures.FIRST_DAY.plusDays(random.nextInt(TaskFixtures.DAYS));
+        CreateTaskRequest request = CreateTaskRequest.builder()
+                .title("Benchmark task")
+                .description("Created by TaskServiceBenchmark")
+                .assignedStaffId(data.staffId(random.nextInt(TaskFixtures.STAFF_COUNT)))
+                .startDate(day.atTime(9, 0))
+                .dueDate(day.plusDays(3).atTime(17, 0))
+                .priority(TaskPriority.HIGH)
+                .build();
+        return data.service().createTask(request, "benchmark");
+    }
+
+    @Benchmark
+    public TaskPage getTasksByStaffId() {
+        String staffId = data.staffId(ThreadLocalRandom.current().nextInt(TaskFixtures.STAFF_COUNT));
+        return data.service().getTasksByStaffId(staffId, null, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public TaskPage getTasksByPriority() {
+        TaskPriority priority = TaskPriority.values()[ThreadLocalRandom.current().nextInt(TaskPriority.values().length)];
+        return data.service().getTasksByPriority(priority, null, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public TaskPage getTasksByDateRange() {
+        LocalDate from = TaskFixtures.FIRST_DAY.plusDays(ThreadLocalRandom.current().nextInt(TaskFixtures.DAYS));
+        return data.service().getTasksByDateRange(from, from.plusDays(6), null, PAGE_SIZE, null);
+    }
+
+    @Benchmark
+    public TaskDto assignTaskByRef() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String taskId = data.taskIds()[random.nextInt(data.taskIds().length)];
+        AssignTaskRequest request = AssignTaskRequest.builder()
+                .newStaffId(data.staffId(random.nextInt(TaskFixtures.STAFF_COUNT)))
+                .reassignedBy("benchmark")
+                .build();
+        return data.service().assignTaskByRef(taskId, request);
+    }
+
+    @Benchmark
+    public TaskDto addCommentToTask() {
+        String taskId = data.taskIds()[ThreadLocalRandom.current().nextInt(data.taskIds().length)];
+        return data.service().addCommentToTask(taskId, new AddCommentRequest("Benchmark comment", "benchmark"));
+    }
+}
@@ -0,0 +1,283 @@
+package com.yourcompany.workforcemgmt.loadtest;
+
+import com.yourcompany.workforcemgmt.WorkforcemgmtApplication;
+import com.yourcompany.workforcemgmt.dto.AddCommentRequest;
+import com.yourcompany.workforcemgmt.dto.AssignTaskRequest;
+import com.yourcompany.workforcemgmt.dto.CommentDto;
+import com.yourcompany.workforcemgmt.dto.CreateTaskRequest;
+import com.yourcompany.workforcemgmt.dto.TaskDto;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.service.TaskReplacedException;
+import com.yourcompany.workforcemgmt.service.TaskService;
+import com.yourcompany.workforcemgmt.service.VersionConflictException;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency stress check for task writes
+ *
+ * Starts the application without a web server, journal included, and has
+ * many threads write to a handful of shared tasks through TaskService at
+ * once, then checks that nothing was lost or duplicated:
+ *
+ * - Every comment added concurrently is present exactly once, and each
+ *   task's version counts every change made to it.
+ * - Comments made conditional on the version the writer last read
+ *   (If-Match) retry on conflict; all of them still land exactly once.
+ * - A task raced by two reassignments and a status update ends up with
+ *   exactly one replacement, and stays cancelled.
+ *
+ * Prints what it checked and exits with status 1 on the first violation.
+ * Run with: ./gradlew stressTest [-PstressArgs="--threads=16 --rounds=5"]
+ * TaskServiceConcurrencyTest makes the same checks at a smaller size on
+ * every build; this harness is for longer runs with the journal in place.
+ */
+public class ConcurrencyStress {
+
+    private static final int HOT_TASKS = 4;
+
+    private final TaskService service;
+    private final int threads;
+    private final int operations;
+    private final ExecutorService pool;
+
+    ConcurrencyStress(TaskService service, int threads, int operations) {
+        this.service = service;
+        this.threads = threads;
+        this.operations = operations;
+        this.pool = Executors.newFixedThreadPool(threads);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = intOption(args, "--threads", 8);
+        if (threads < 3) {
+            // A reassignment race needs its three contenders running at once
+            throw new IllegalArgumentException("--threads must be at least 3");
+        }
+        int rounds = intOption(args, "--rounds", 3);
+        int operations = intOption(args, "--operations", 500);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WorkforcemgmtApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(LoadTest.applicationArgs(new String[0], "request-trace.enabled=false",
+                        "logging.level.com.yourcompany.workforcemgmt=INFO",
+                        "task-journal.directory=" + Files.createTempDirectory("stress-journal"),
+                        "task-archive.directory=" + Files.createTempDirectory("stress-archive"),
+                        "task-history.directory=" + Files.createTempDirectory("stress-history")));
+        ConcurrencyStress stress = new ConcurrencyStress(context.getBean(TaskService.class), threads, operations);
+        boolean passed = false;
+        try {
+            for (int round = 1; round <= rounds; round++) {
+                System.out.printf("Round %d of %d, %d threads%n", round, rounds, threads);
+                stress.concurrentComments();
+                stress.conditionalComments();
+                stress.reassignmentRaces();
+            }
+            passed = true;
+            System.out.println("All checks passed");
+        } catch (AssertionError e) {
+            System.out.println("FAILED: " + e.getMessage());
+        } finally {
+            stress.pool.shutdownNow();
+            context.close();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    /**
+     * Unconditional comments from every thread onto the same few tasks
+     */
+    void concurrentComments() throws Exception {
+        List<String> taskIds = createTasks(HOT_TASKS);
+        runOnAllThreads(thread -> {
+            for (int i = 0; i < operations; i++) {
+                String text = "t" + thread + "-" + i;
+                service.addCommentToTask(taskIds.get(i % HOT_TASKS), new AddCommentRequest(text, "stress"));
+            }
+        });
+
+        for (int k = 0; k < HOT_TASKS; k++) {
+            // Each thread wrote comment i to task i % HOT_TASKS
+            TaskDto task = service.getTaskById(taskIds.get(k), true);
+            checkComments(task, threads * ((operations + HOT_TASKS - 1 - k) / HOT_TASKS));
+            check(task.getVersion() == 1 + task.getComments().size(),
+                    "task %s is at version %d after %d comments", task.getId(), task.getVersion(),
+                    task.getComments().size());
+        }
+        System.out.printf("  %d concurrent comments on %d tasks: none lost%n", threads * operations, HOT_TASKS);
+    }
+
+    /**
+     * Comments conditional on the version last read, retried until they apply
+     */
+    void conditionalComments() throws Exception {
+        String taskId = createTasks(1).get(0);
+        int perThread = Math.max(1, operations / 10);
+        LongAdder conflicts = new LongAdder();
+        runOnAllThreads(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                AddCommentRequest comment = new AddCommentRequest("t" + thread + "-" + i, "stress");
+                while (true) {
+                    long seen = service.getTaskVersion(taskId);
+                    try {
+                        service.addCommentToTask(taskId, comment, seen);
+                        break;
+                    } catch (VersionConflictException e) {
+                        conflicts.increment();
+                    }
+                }
+            }
+        });
+
+        TaskDto task = service.getTaskById(taskId, true);
+        checkComments(task, threads * perThread);
+        check(task.getVersion() == 1 + threads * perThread,
+                "task %s is at version %d after %d conditional comments", taskId, task.getVersion(),
+                threads * perThread);
+        System.out.printf("  %d conditional comments on one task: none lost, %d conflicts retried%n",
+                threads * perThread, conflicts.sum());
+    }
+
+    /**
+     * Two reassignments and a status update racing on each of many tasks
+     */
+    void reassignmentRaces() throws Exception {
+        int races = Math.max(1, operations / 5);
+        List<String> taskIds = createTasks(races);
+        AtomicInteger reassigned = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        List<Callable<String>> contenders = new ArrayList<>();
+
+        for (String taskId : taskIds) {
+            CyclicBarrier start = new CyclicBarrier(3);
+            for (String staffId : new String[] {"stress-b", "stress-c"}) {
+                contenders.add(() -> {
+                    start.await();
+                    try {
+                        AssignTaskRequest request = AssignTaskRequest.builder()
+                                .newStaffId(staffId)
+                                .reassignedBy("stress")
+                                .build();
+                        String replacement = service.assignTaskByRef(taskId, request).getId();
+                        reassigned.incrementAndGet();
+                        return replacement;
+                    } catch (TaskReplacedException e) {
+                        refused.incrementAndGet();
+                        return null;
+                    }
+                });
+            }
+            contenders.add(() -> {
+                start.await();
+                try {
+                    service.updateTaskStatus(taskId, TaskStatus.COMPLETED, "stress");
+                } catch (TaskReplacedException e) {
+                    refused.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        List<Future<String>> results = pool.invokeAll(contenders);
+        for (Future<String> result : results) {
+            result.get();
+        }
+
+        check(reassigned.get() == races, "%d of %d raced tasks were reassigned", reassigned.get(), races);
+        for (int i = 0; i < races; i++) {
+            String taskId = taskIds.get(i);
+            TaskDto original = service.getTaskById(taskId);
+            check(original.getStatus() == TaskStatus.CANCELLED,
+                    "reassigned task %s ended up %s", taskId, original.getStatus());
+            long replacements = results.subList(3 * i, 3 * i + 2).stream()
+                    .map(ConcurrencyStress::resultOf)
+                    .filter(id -> id != null)
+                    .count();
+            check(replacements == 1, "task %s was replaced %d times", taskId, replacements);
+        }
+        System.out.printf("  %d reassignment races: one replacement each, %d losing writes refused%n",
+                races, refused.get());
+    }
+
+    private List<String> createTasks(int count) {
+        List<String> taskIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CreateTaskRequest request = CreateTaskRequest.builder()
+                    .title("Stress task " + i)
+                    .assignedStaffId("stress-a")
+                    .build();
+            taskIds.add(service.createTask(request, "stress").getId());
+        }
+        return taskIds;
+    }
+
+    private void checkComments(TaskDto task, int expected) {
+        Set<String> texts = new HashSet<>();
+        for (CommentDto comment : task.getComments()) {
+            check(texts.add(comment.getText()), "comment %s appears twice on task %s", comment.getText(),
+                    task.getId());
+        }
+        check(texts.size() == expected, "task %s has %d comments, expected %d", task.getId(), texts.size(),
+                expected);
+    }
+
+    /**
+     * Run the same work on every pool thread, all starting together
+     */
+    private void runOnAllThreads(ThreadWork work) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(threads);
+        List<Callable<Void>> tasks = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            tasks.add(() -> {
+                start.await();
+                work.run(thread);
+                return null;
+            });
+        }
+        for (Future<Void> result : pool.invokeAll(tasks)) {
+            result.get();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadWork {
+        void run(int thread) throws Exception;
+    }
+
+    private static String resultOf(Future<String> result) {
+        try {
+            return result.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void check(boolean condition, String message, Object... args) {
+        if (!condition) {
+            throw new AssertionError(String.format(message, args));
+        }
+    }
+
+    private static int intOption(String[] args, String name, int defaultValue) {
+        for (String arg : args) {
+            if (arg.startsWith(name + "=")) {
+                return Integer.parseInt(arg.substring(name.length() + 1));
+            }
+        }
+        return defaultValue;
+    }
+}
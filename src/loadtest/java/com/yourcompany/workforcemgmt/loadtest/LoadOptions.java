@@ -0,0 +1,66 @@
+package com.yourcompany.workforcemgmt.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Command line settings for a load test run
+ *
+ * Options use the --name=value form. Anything not listed here is passed on
+ * to the application, so Spring properties such as
+ * --request-trace.enabled=true can be set on the same command line.
+ *
+ * @param rate       target arrivals per second, across all operations
+ * @param warmup     time to run before recording starts
+ * @param duration   recorded time
+ * @param clients    client threads; each owns an equal share of the arrival schedule
+ * @param seedTasks  tasks created before the run so updates have targets
+ * @param staffCount number of distinct staff IDs used by creates and reads
+ * @param mix        operation weights
+ * @param output     where the JSON report is written
+ */
+record LoadOptions(double rate, Duration warmup, Duration duration, int clients, int seedTasks, int staffCount,
+                   WorkloadMix mix, Path output) {
+
+    static LoadOptions parse(String[] args) {
+        double rate = 200;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        int clients = 64;
+        int seedTasks = 2_000;
+        int staffCount = 100;
+        String mix = WorkloadMix.PROFILES.get("mixed");
+        Path output = Path.of("build", "reports", "loadtest", "results.json");
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                continue;
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "rate" -> rate = Double.parseDouble(value);
+                case "warmup" -> warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> duration = Duration.ofSeconds(Long.parseLong(value));
+                case "clients" -> clients = Integer.parseInt(value);
+                case "seed-tasks" -> seedTasks = Integer.parseInt(value);
+                case "staff" -> staffCount = Integer.parseInt(value);
+                case "profile" -> {
+                    mix = WorkloadMix.PROFILES.get(value);
+                    if (mix == null) {
+                        throw new IllegalArgumentException("Unknown profile " + value + ", expected one of "
+                                + WorkloadMix.PROFILES.keySet());
+                    }
+                }
+                case "mix" -> mix = value;
+                case "output" -> output = Path.of(value);
+                default -> {
+                    // Left for Spring
+                }
+            }
+        }
+        if (rate <= 0 || clients <= 0 || staffCount <= 0) {
+            throw new IllegalArgumentException("rate, clients and staff must be positive");
+        }
+        return new LoadOptions(rate, warmup, duration, clients, seedTasks, staffCount, WorkloadMix.parse(mix), output);
+    }
+}
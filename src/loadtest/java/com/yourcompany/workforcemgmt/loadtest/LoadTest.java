@@ -0,0 +1,193 @@
+package com.yourcompany.workforcemgmt.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.yourcompany.workforcemgmt.WorkforcemgmtApplication;
+import com.yourcompany.workforcemgmt.metrics.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP load test for the task API
+ *
+ * Starts the application in this JVM on a free local port, seeds it with
+ * tasks, then drives it at a fixed arrival rate with a weighted mix of
+ * operations (see {@link OpenLoopDriver}). Prints throughput and latency
+ * percentiles per endpoint and writes the same numbers as JSON.
+ *
+ * Run with: ./gradlew loadTest -PloadArgs="--rate=500 --duration=60 --profile=read-heavy"
+ *
+ * Request tracing, the access log and debug logging are off by default so
+ * the run measures the API rather than console output; pass
+ * --request-trace.enabled=true to include them. Each run journals, archives
+ * and spills history into fresh temporary directories, so runs do not
+ * replay each other's writes.
+ */
+public class LoadTest {
+
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999, 1.0};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9", "max"};
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        Map<Operation, OpenLoopDriver.Stats> stats = run(options, args);
+        print(options, stats);
+        write(options, report(options, stats));
+    }
+
+    /**
+     * Start the application, drive it as configured and shut it down again
+     *
+     * @param args command line, also passed to the application
+     * @param properties extra application properties, overriding the load test defaults
+     * @return measurements per operation
+     */
+    static Map<Operation, OpenLoopDriver.Stats> run(LoadOptions options, String[] args, String... properties)
+            throws Exception {
+        List<String> settings = new ArrayList<>(List.of("server.port=0", "request-trace.enabled=false",
+                "server.tomcat.accesslog.enabled=false",
+                "logging.level.com.yourcompany.workforcemgmt=INFO",
+                "logging.level.org.apache.tomcat.util.http=INFO",
+                "task-journal.directory=" + Files.createTempDirectory("loadtest-journal"),
+                "task-archive.directory=" + Files.createTempDirectory("loadtest-archive"),
+                "task-history.directory=" + Files.createTempDirectory("loadtest-history")));
+        settings.addAll(List.of(properties));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WorkforcemgmtApplication.class)
+                .run(applicationArgs(args, settings.toArray(String[]::new)));
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            TaskApiClient client = new TaskApiClient(http, context.getBean(ObjectMapper.class),
+                    "http://localhost:" + port, options.staffCount());
+
+            System.out.printf("Seeding %d tasks on port %d%n", options.seedTasks(), port);
+            client.seed(options.seedTasks());
+
+            OpenLoopDriver driver = new OpenLoopDriver(client, options);
+            System.out.printf("Warming up for %ds at %.0f req/s%n", options.warmup().toSeconds(), options.rate());
+            driver.run(options.warmup().toSeconds(), false);
+            System.out.printf("Measuring for %ds at %.0f req/s with %d clients, mix %s%n",
+                    options.duration().toSeconds(), options.rate(), options.clients(), options.mix());
+            return driver.run(options.duration().toSeconds(), true);
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Command line for the application: the given properties, unless args already set them, then args
+     *
+     * Passed as arguments rather than through SpringApplicationBuilder.properties,
+     * which only sets defaults that application.properties would override.
+     *
+     * @param args command line as given
+     * @param properties key=value settings; later ones replace earlier ones with the same key
+     */
+    static String[] applicationArgs(String[] args, String... properties) {
+        Map<String, String> settings = new LinkedHashMap<>();
+        for (String property : properties) {
+            int split = property.indexOf('=');
+            settings.put(property.substring(0, split), property.substring(split + 1));
+        }
+        List<String> result = new ArrayList<>(List.of(args));
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int split = arg.indexOf('=');
+                settings.remove(split < 0 ? arg.substring(2) : arg.substring(2, split));
+            }
+        }
+        settings.forEach((key, value) -> result.add("--" + key + "=" + value));
+        return result.toArray(String[]::new);
+    }
+
+    static void write(LoadOptions options, Object report) throws IOException {
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.output().toFile(), report);
+        System.out.println("Results written to " + options.output().toAbsolutePath());
+    }
+
+    static void print(LoadOptions options, Map<Operation, OpenLoopDriver.Stats> stats) {
+        double seconds = options.duration().toSeconds();
+        System.out.printf("%n%-36s %9s %7s %9s", "endpoint", "requests", "errors", "req/s");
+        for (String name : PERCENTILE_NAMES) {
+            System.out.printf(" %9s", name + " ms");
+        }
+        System.out.printf(" %13s%n", "uncorr p99 ms");
+        long total = 0;
+        long errors = 0;
+        for (Map.Entry<Operation, OpenLoopDriver.Stats> entry : stats.entrySet()) {
+            Histogram.Snapshot corrected = entry.getValue().corrected.snapshot();
+            if (corrected.getCount() == 0) {
+                continue;
+            }
+            total += corrected.getCount();
+            errors += entry.getValue().errors.sum();
+            System.out.printf("%-36s %9d %7d %9.1f", entry.getKey().endpoint(), corrected.getCount(),
+                    entry.getValue().errors.sum(), corrected.getCount() / seconds);
+            for (double percentile : PERCENTILES) {
+                System.out.printf(" %9.2f", millis(corrected.quantile(percentile)));
+            }
+            System.out.printf(" %13.2f%n", millis(entry.getValue().serviceTime.snapshot().quantile(0.99)));
+        }
+        System.out.printf("%-36s %9d %7d %9.1f   (target %.1f)%n%n", "total", total, errors, total / seconds,
+                options.rate());
+    }
+
+    static Map<String, Object> report(LoadOptions options, Map<Operation, OpenLoopDriver.Stats> stats) {
+        double seconds = options.duration().toSeconds();
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("targetRate", options.rate());
+        settings.put("durationSeconds", options.duration().toSeconds());
+        settings.put("clients", options.clients());
+        settings.put("mix", options.mix().toString());
+
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<Operation, OpenLoopDriver.Stats> entry : stats.entrySet()) {
+            Histogram.Snapshot corrected = entry.getValue().corrected.snapshot();
+            if (corrected.getCount() == 0) {
+                continue;
+            }
+            total += corrected.getCount();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("endpoint", entry.getKey().endpoint());
+            result.put("requests", corrected.getCount());
+            result.put("errors", entry.getValue().errors.sum());
+            result.put("throughput", corrected.getCount() / seconds);
+            result.put("latencyMillis", percentiles(corrected));
+            result.put("serviceTimeMillis", percentiles(entry.getValue().serviceTime.snapshot()));
+            endpoints.put(entry.getKey().key(), result);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("throughput", total / seconds);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private static Map<String, Double> percentiles(Histogram.Snapshot snapshot) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            values.put(PERCENTILE_NAMES[i], millis(snapshot.quantile(PERCENTILES[i])));
+        }
+        return values;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
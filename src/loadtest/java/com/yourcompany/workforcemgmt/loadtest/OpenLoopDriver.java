@@ -0,0 +1,104 @@
+package com.yourcompany.workforcemgmt.loadtest;
+
+import com.yourcompany.workforcemgmt.metrics.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fixed arrival rate driver with coordinated-omission correction
+ *
+ * Request k is due at start + k / rate, whatever happened to earlier
+ * requests. Each client thread owns every n-th slot of that schedule and
+ * sends a request when its slot comes due, or at once if it is already
+ * late. Latency is measured from the slot's due time, not from when the
+ * request was actually sent, so a stall on the server shows up in the
+ * numbers for every request that should have been sent during it. The
+ * uncorrected send-to-response time is recorded next to it for contrast.
+ *
+ * If the clients cannot keep up the achieved rate drops below the target,
+ * which the report makes visible; add clients rather than trusting the
+ * percentiles of such a run.
+ */
+final class OpenLoopDriver {
+
+    /**
+     * Measurements for one operation
+     */
+    static final class Stats {
+        final Histogram corrected = new Histogram();
+        final Histogram serviceTime = new Histogram();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final TaskApiClient client;
+    private final LoadOptions options;
+
+    OpenLoopDriver(TaskApiClient client, LoadOptions options) {
+        this.client = client;
+        this.options = options;
+    }
+
+    /**
+     * Run the schedule for the given time
+     *
+     * @param seconds how long to generate load for
+     * @param record whether to keep measurements, false for warm-up
+     * @return per-operation results, empty when not recording
+     */
+    Map<Operation, Stats> run(long seconds, boolean record) throws InterruptedException {
+        Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new Stats());
+        }
+        long intervalNanos = (long) (1_000_000_000L / options.rate());
+        long start = System.nanoTime();
+        long end = start + seconds * 1_000_000_000L;
+        Thread[] threads = new Thread[options.clients()];
+        for (int i = 0; i < threads.length; i++) {
+            int first = i;
+            threads[i] = new Thread(() -> drive(first, threads.length, start, end, intervalNanos, stats),
+                    "load-client-" + i);
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return record ? stats : Map.of();
+    }
+
+    private void drive(int first, int stride, long start, long end, long intervalNanos, Map<Operation, Stats> stats) {
+        for (long slot = first; ; slot += stride) {
+            long due = start + slot * intervalNanos;
+            if (due >= end) {
+                return;
+            }
+            // parkNanos may return early, so re-check until the slot is due
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = options.mix().pick(ThreadLocalRandom.current().nextDouble());
+            Stats target = stats.get(operation);
+            long sent = System.nanoTime();
+            boolean ok;
+            try {
+                ok = client.execute(operation);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long done = System.nanoTime();
+            target.corrected.record(done - due);
+            target.serviceTime.record(done - sent);
+            if (!ok) {
+                target.errors.increment();
+            }
+        }
+    }
+}
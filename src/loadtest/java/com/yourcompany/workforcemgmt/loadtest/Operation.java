@@ -0,0 +1,39 @@
+package com.yourcompany.workforcemgmt.loadtest;
+
+/**
+ * Kinds of request the load generator issues
+ */
+enum Operation {
+    CREATE("create", "POST /api/tasks"),
+    REASSIGN("reassign", "POST /api/tasks/{id}/assign-by-ref"),
+    COMMENT("comment", "POST /api/tasks/{id}/comments"),
+    STATUS("status", "PUT /api/tasks/{id}/status"),
+    LIST("list", "GET /api/tasks"),
+    STAFF("staff", "GET /api/tasks/staff/{staffId}"),
+    DATE_RANGE("dateRange", "GET /api/tasks/date-range");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    String key() {
+        return key;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
@@ -0,0 +1,134 @@
+package com.yourcompany.workforcemgmt.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Issues one request per operation against the task API
+ *
+ * Keeps a ring of recently seen task IDs so that updates target tasks that
+ * exist, including tasks created during the run. Request bodies are built
+ * with the same ObjectMapper settings the server uses.
+ */
+final class TaskApiClient {
+
+    private static final int KNOWN_IDS = 8192;
+    private static final LocalDate FIRST_DAY = LocalDate.now().withDayOfYear(1);
+    private static final int DAYS = 365;
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http;
+    private final ObjectMapper json;
+    private final String baseUrl;
+    private final int staffCount;
+    private final AtomicReferenceArray<String> knownIds = new AtomicReferenceArray<>(KNOWN_IDS);
+    private final AtomicLong idsSeen = new AtomicLong();
+
+    TaskApiClient(HttpClient http, ObjectMapper json, String baseUrl, int staffCount) {
+        this.http = http;
+        this.json = json;
+        this.baseUrl = baseUrl;
+        this.staffCount = staffCount;
+    }
+
+    /**
+     * @return true if the server answered with a 2xx status
+     */
+    boolean execute(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case CREATE -> remember(send(post("/api/tasks?createdBy=loadtest", newTask(random))));
+            case REASSIGN -> remember(send(post("/api/tasks/" + knownId(random) + "/assign-by-ref",
+                    Map.of("newStaffId", staffId(random), "reassignedBy", "loadtest"))));
+            case COMMENT -> ok(send(post("/api/tasks/" + knownId(random) + "/comments",
+                    Map.of("text", "Load test comment", "userId", "loadtest"))));
+            case STATUS -> ok(send(request("/api/tasks/" + knownId(random) + "/status?updatedBy=loadtest&status="
+                    + (random.nextInt(4) == 0 ? "COMPLETED" : "ACTIVE"))
+                    .PUT(HttpRequest.BodyPublishers.noBody()).build()));
+            case LIST -> ok(send(request("/api/tasks?limit=50").GET().build()));
+            case STAFF -> ok(send(request("/api/tasks/staff/" + staffId(random) + "?limit=50").GET().build()));
+            case DATE_RANGE -> {
+                LocalDate from = FIRST_DAY.plusDays(random.nextInt(DAYS));
+                yield ok(send(request("/api/tasks/date-range?limit=50&startDate=" + from
+                        + "&endDate=" + from.plusDays(6)).GET().build()));
+            }
+        };
+    }
+
+    /**
+     * Create tasks up front so the first updates of the run have targets
+     */
+    void seed(int count) throws IOException, InterruptedException {
+        for (int i = 0; i < count; i++) {
+            if (!execute(Operation.CREATE)) {
+                throw new IllegalStateException("Seeding tasks failed");
+            }
+        }
+    }
+
+    private Map<String, Object> newTask(ThreadLocalRandom random) {
+        LocalDate day = FIRST_DAY.plusDays(random.nextInt(DAYS));
+        return Map.of(
+                "title", "Load test task",
+                "description", "Created by the load generator",
+                "assignedStaffId", staffId(random),
+                "startDate", day.atTime(9, 0).toString(),
+                "dueDate", day.plusDays(3).atTime(17, 0).toString(),
+                "priority", random.nextBoolean() ? "HIGH" : "MEDIUM");
+    }
+
+    private String staffId(ThreadLocalRandom random) {
+        return "staff-" + random.nextInt(staffCount);
+    }
+
+    private String knownId(ThreadLocalRandom random) {
+        long seen = idsSeen.get();
+        if (seen == 0) {
+            return "missing";
+        }
+        String id = knownIds.get(random.nextInt((int) Math.min(seen, KNOWN_IDS)));
+        return id != null ? id : "missing";
+    }
+
+    private boolean remember(HttpResponse<byte[]> response) throws IOException {
+        if (!ok(response)) {
+            return false;
+        }
+        JsonNode id = json.readTree(response.body()).get("id");
+        if (id != null) {
+            knownIds.set((int) (idsSeen.getAndIncrement() % KNOWN_IDS), id.asText());
+        }
+        return true;
+    }
+
+    private static boolean ok(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private HttpRequest post(String path, Object body) throws IOException {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(json.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,35 @@
+package com.yourcompany.workforcemgmt.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs the same load twice, on Tomcat's platform worker pool and on virtual threads
+ *
+ * The platform run uses Tomcat's default pool of 200 workers, so with more
+ * clients than workers it queues requests where the virtual run does not.
+ * Defaults to 2000 clients; the usual load test options apply. Needs Java 21, so run it with
+ * ./gradlew loadTestThreadModes -PvirtualThreads
+ */
+public class ThreadModeComparison {
+
+    public static void main(String[] args) throws Exception {
+        String[] withDefaults = new String[args.length + 2];
+        withDefaults[0] = "--clients=2000";
+        withDefaults[1] = "--output=" + Path.of("build", "reports", "loadtest", "thread-modes.json");
+        System.arraycopy(args, 0, withDefaults, 2, args.length);
+        LoadOptions options = LoadOptions.parse(withDefaults);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (boolean virtual : new boolean[] {false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            System.out.println("=== " + mode + " threads ===");
+            Map<Operation, OpenLoopDriver.Stats> stats = LoadTest.run(options, withDefaults,
+                    "spring.threads.virtual.enabled=" + virtual);
+            LoadTest.print(options, stats);
+            report.put(mode, LoadTest.report(options, stats));
+        }
+        LoadTest.write(options, report);
+    }
+}
@@ -0,0 +1,80 @@
+package com.yourcompany.workforcemgmt.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Weighted choice of operations, e.g. "create=10,comment=20,staff=40"
+ *
+ * Weights are relative; operations left out are never issued.
+ */
+final class WorkloadMix {
+
+    /**
+     * Built-in profiles selectable with --profile
+     */
+    static final Map<String, String> PROFILES = Map.of(
+            "mixed", "create=10,reassign=5,comment=15,status=10,list=15,staff=25,dateRange=20",
+            "read-heavy", "create=3,reassign=1,comment=4,status=2,list=20,staff=40,dateRange=30",
+            "write-heavy", "create=30,reassign=10,comment=30,status=20,list=2,staff=5,dateRange=3");
+
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    private WorkloadMix(Map<Operation, Integer> weights) {
+        operations = weights.keySet().toArray(new Operation[0]);
+        cumulative = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += weights.get(operations[i]);
+            cumulative[i] = sum;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("Workload mix must have at least one positive weight");
+        }
+        total = sum;
+    }
+
+    static WorkloadMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight but got: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for " + parts[0]);
+            }
+            if (weight > 0) {
+                weights.put(Operation.fromKey(parts[0].trim()), weight);
+            }
+        }
+        return new WorkloadMix(weights);
+    }
+
+    /**
+     * @param roll uniformly distributed value in [0, 1)
+     */
+    Operation pick(double roll) {
+        int target = (int) (roll * total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (target < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            out.append(i == 0 ? "" : ",").append(operations[i].key()).append('=').append(cumulative[i] - previous);
+            previous = cumulative[i];
+        }
+        return out.toString();
+    }
+}
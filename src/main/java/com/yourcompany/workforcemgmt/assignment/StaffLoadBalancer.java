@@ -0,0 +1,197 @@
+package com.yourcompany.workforcemgmt.assignment;
+
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import com.yourcompany.workforcemgmt.model.Staff;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * Picks the least-loaded staff member for automatic assignment
+ *
+ * A staff member's load is their number of ACTIVE tasks, read from the
+ * store's counters, plus picks handed out for tasks not yet stored. Each
+ * member sits in one {@link StaffLoadHeap} per filter they match: all
+ * staff, their department, their role, and the two together. Picking
+ * reads the top of the one heap for the requested filter; a change to a
+ * member's load moves them in their four heaps. Both are O(log staff) and
+ * never look at tasks.
+ *
+ * The service calls {@link #refresh} after every change that can move a
+ * task in or out of a staff member's ACTIVE list. A pick is counted
+ * against its staff member from {@link #reserve} until {@link #release},
+ * so a burst of automatic assignments is spread out rather than all going
+ * to whoever was least loaded when it started.
+ *
+ * Department and role filters are matched ignoring case; a blank one is
+ * the same as none.
+ */
+@Component
+public class StaffLoadBalancer {
+
+    // Heaps and members are guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, StaffLoadHeap> heaps = new HashMap<>();
+    private final Map<String, Member> members = new HashMap<>();
+    private ToLongFunction<String> activeTasks = staffId -> 0;
+
+    private final LongAdder picks = new LongAdder();
+
+    public StaffLoadBalancer(MetricsRegistry metrics) {
+        metrics.gauge("workforce_auto_assignments", "Tasks assigned to the least-loaded staff member", null,
+                () -> MetricsRegistry.single(picks.sum()));
+    }
+
+    /**
+     * Load the staff directory
+     *
+     * @param staff the staff members who can be picked
+     * @param activeTasks reads a staff member's number of ACTIVE tasks in constant time
+     */
+    public void start(Collection<Staff> staff, ToLongFunction<String> activeTasks) {
+        lock.lock();
+        try {
+            this.activeTasks = activeTasks;
+            for (Staff member : staff) {
+                Member entry = new Member(member.getId(), keysOf(member.getDepartment(), member.getRole()));
+                members.put(member.getId(), entry);
+                for (String key : entry.keys) {
+                    heaps.computeIfAbsent(key, k -> new StaffLoadHeap());
+                }
+                place(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Re-read a staff member's load after a change to one of their tasks; unknown staff are ignored
+     */
+    public void refresh(String staffId) {
+        if (staffId == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            Member member = members.get(staffId);
+            if (member != null) {
+                place(member);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pick the least-loaded staff member matching the filters and count the pick against them
+     *
+     * @param department only consider this department, or null for any
+     * @param role only consider this role, or null for any
+     * @param excluded a staff member not to pick, such as a task's current assignee, or null
+     * @return the staff member picked; pass it to {@link #release} once the task is stored, or if it never is
+     * @throws IllegalArgumentException if no staff member matches
+     */
+    public String reserve(String department, String role, String excluded) {
+        lock.lock();
+        try {
+            StaffLoadHeap heap = heaps.get(key(department, role));
+            String staffId = heap != null ? heap.peek(excluded) : null;
+            if (staffId == null) {
+                throw new IllegalArgumentException("No staff member to assign"
+                        + (normalize(department).isEmpty() ? "" : " in department " + department)
+                        + (normalize(role).isEmpty() ? "" : " with role " + role));
+            }
+            Member member = members.get(staffId);
+            member.reserved++;
+            place(member);
+            picks.increment();
+            return staffId;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop counting a pick made by {@link #reserve}
+     */
+    public void release(String staffId) {
+        lock.lock();
+        try {
+            Member member = members.get(staffId);
+            if (member != null && member.reserved > 0) {
+                member.reserved--;
+                place(member);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Move a member to their current load in each of their heaps; called with lock held
+     */
+    private void place(Member member) {
+        long load = activeTasks.applyAsLong(member.staffId) + member.reserved;
+        for (String key : member.keys) {
+            heaps.get(key).set(member.staffId, load);
+        }
+    }
+
+    /**
+     * Keys of the heaps a staff member belongs to; a missing department or role leaves out the heaps needing it
+     */
+    private static List<String> keysOf(String department, String role) {
+        boolean hasDepartment = !normalize(department).isEmpty();
+        boolean hasRole = !normalize(role).isEmpty();
+        List<String> keys = new ArrayList<>(4);
+        keys.add(key(null, null));
+        if (hasDepartment) {
+            keys.add(key(department, null));
+        }
+        if (hasRole) {
+            keys.add(key(null, role));
+        }
+        if (hasDepartment && hasRole) {
+            keys.add(key(department, role));
+        }
+        return keys;
+    }
+
+    /**
+     * Heap key of a filter; a separator that cannot appear in names keeps "a" + "bc" apart from "ab" + "c"
+     */
+    private static String key(String department, String role) {
+        return normalize(department) + '\u0000' + normalize(role);
+    }
+
+    /**
+     * Blank filters match everyone, like missing ones
+     */
+    private static String normalize(String name) {
+        return name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A staff member, the heaps they are in and their picks not yet released
+     */
+    private static final class Member {
+
+        final String staffId;
+        final List<String> keys;
+        int reserved;
+
+        Member(String staffId, List<String> keys) {
+            this.staffId = staffId;
+            this.keys = keys;
+        }
+    }
+}
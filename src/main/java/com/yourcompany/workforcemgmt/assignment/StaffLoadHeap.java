@@ -0,0 +1,112 @@
+package com.yourcompany.workforcemgmt.assignment;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Indexed binary min-heap of staff members by load
+ *
+ * A map from staff ID to heap position lets a member's load be changed in
+ * place and sifted up or down in O(log n), instead of removing and adding
+ * it again. Equal loads are ordered by staff ID, so picks are repeatable.
+ *
+ * Not thread-safe; callers hold a lock around every call.
+ */
+final class StaffLoadHeap {
+
+    private String[] staffIds = new String[16];
+    private long[] loads = new long[16];
+    private int size;
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    /**
+     * Add a staff member, or move one already present to its new load
+     */
+    void set(String staffId, long load) {
+        Integer position = positions.get(staffId);
+        if (position == null) {
+            if (size == staffIds.length) {
+                staffIds = Arrays.copyOf(staffIds, size * 2);
+                loads = Arrays.copyOf(loads, size * 2);
+            }
+            staffIds[size] = staffId;
+            loads[size] = load;
+            positions.put(staffId, size);
+            siftUp(size++);
+            return;
+        }
+        long previous = loads[position];
+        loads[position] = load;
+        if (load < previous) {
+            siftUp(position);
+        } else if (load > previous) {
+            siftDown(position);
+        }
+    }
+
+    /**
+     * @param excluded a staff member not to pick, or null
+     * @return the least-loaded staff member other than the excluded one, or null if there is none
+     */
+    String peek(String excluded) {
+        if (size == 0) {
+            return null;
+        }
+        if (!staffIds[0].equals(excluded)) {
+            return staffIds[0];
+        }
+        // The runner-up is one of the root's children
+        if (size == 1) {
+            return null;
+        }
+        return size == 2 || before(1, 2) ? staffIds[1] : staffIds[2];
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!before(i, parent)) {
+                return;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && before(child + 1, child)) {
+                child++;
+            }
+            if (!before(child, i)) {
+                return;
+            }
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    private boolean before(int a, int b) {
+        return loads[a] < loads[b] || (loads[a] == loads[b] && staffIds[a].compareTo(staffIds[b]) < 0);
+    }
+
+    private void swap(int a, int b) {
+        String staffId = staffIds[a];
+        long load = loads[a];
+        staffIds[a] = staffIds[b];
+        loads[a] = loads[b];
+        staffIds[b] = staffId;
+        loads[b] = load;
+        positions.put(staffIds[a], a);
+        positions.put(staffIds[b], b);
+    }
+}
@@ -0,0 +1,63 @@
+package com.yourcompany.workforcemgmt.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in mode that runs request handling on virtual threads
+ *
+ * Enabled with spring.threads.virtual.enabled=true (the property Spring Boot
+ * 3.2 later adopted for the same purpose) and requires Java 21; build and
+ * run with -PvirtualThreads to switch the toolchain. Tomcat then hands each
+ * request to a new virtual thread instead of its bounded worker pool, and
+ * the MVC async executor used for NDJSON streaming does the same, so a slow
+ * client only parks a virtual thread rather than holding a platform thread.
+ *
+ * The request path does not block inside synchronized blocks: the store
+ * uses ConcurrentHashMap compute and skip lists, history logs are CAS-based
+ * and tracing hands off through a lock-free ring buffer.
+ *
+ * The executor is created reflectively so the default Java 17 build still
+ * compiles; turning the mode on under Java 17 fails at startup.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        log.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    /**
+     * Replaces the pooled applicationTaskExecutor that MVC async requests run on
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(newVirtualThreadPerTaskExecutor());
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true requires Java 21 or later, "
+                    + "but this JVM is " + Runtime.version() + "; build with -PvirtualThreads");
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create a virtual thread executor", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.yourcompany.workforcemgmt.controller;
+
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Prometheus scrape endpoint, reachable from the local host only
+ */
+@RestController
+public class MetricsController {
+    
+    private static final String PROMETHEUS_TEXT = "text/plain; version=0.0.4; charset=utf-8";
+    
+    @Autowired
+    private MetricsRegistry metrics;
+    
+    @GetMapping(value = "/internal/metrics", produces = PROMETHEUS_TEXT)
+    public ResponseEntity<String> scrape(HttpServletRequest request) {
+        if (!isLoopback(request.getRemoteAddr())) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(metrics.scrape());
+    }
+    
+    private static boolean isLoopback(String address) {
+        try {
+            // Remote addresses are IP literals, so this does not hit DNS
+            return InetAddress.getByName(address).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
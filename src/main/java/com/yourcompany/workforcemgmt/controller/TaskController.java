@@ -1,124 +1,369 @@
 package com.yourcompany.workforcemgmt.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yourcompany.workforcemgmt.dto.*;
+import com.yourcompany.workforcemgmt.events.StaffEventFeed;
+import com.yourcompany.workforcemgmt.logging.RequestTracer;
 import com.yourcompany.workforcemgmt.model.TaskPriority;
 import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.service.TaskReplacedException;
 import com.yourcompany.workforcemgmt.service.TaskService;
+import com.yourcompany.workforcemgmt.service.VersionConflictException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
+/**
+ * REST endpoints for tasks
+ * 
+ * Single tasks and the JSON list views carry strong ETags built from the
+ * task's version or the view's {@link com.yourcompany.workforcemgmt.service.ViewVersions}
+ * counter. A GET whose If-None-Match still matches is answered 304 before
+ * anything is read or serialized. Changes to a single task accept If-Match
+ * and are refused with 412 if the task has changed since that ETag.
+ * Reassigning or changing the status of a task that a reassignment has
+ * already replaced is refused with 409.
+ */
 @RestController
 @RequestMapping("/api/tasks")
 @CrossOrigin(origins = "*")
 public class TaskController {
     
+    /**
+     * Response header carrying the opaque cursor for the next page of a list endpoint
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
+    // Versions start again from 0 after a restart, so ETags carry the start time to stay unique
+    private static final String ETAG_EPOCH = Long.toString(System.currentTimeMillis(), 36);
+    
     @Autowired
     private TaskService taskService;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private RequestTracer tracer;
+    
+    @Autowired
+    private StaffEventFeed eventFeed;
+    
     @PostMapping
     public ResponseEntity<TaskDto> createTask(@RequestBody CreateTaskRequest request,
                                             @RequestParam(defaultValue = "system") String createdBy) {
-        System.out.println("🔵 API CALL: POST /api/tasks - Creating task: " + request.getTitle());
+        RequestTracer.Span trace = tracer.start("createTask", "title", request.getTitle());
         try {
             TaskDto task = taskService.createTask(request, createdBy);
-            System.out.println("✅ SUCCESS: Task created with ID: " + task.getId());
+            trace.success("taskId", task.getId());
             return ResponseEntity.ok(task);
         } catch (Exception e) {
-            System.out.println("❌ ERROR: Failed to create task - " + e.getMessage());
+            trace.error("error", e.getMessage());
             return ResponseEntity.badRequest().build();
         }
     }
     
     @GetMapping
-    public ResponseEntity<List<TaskDto>> getAllTasks() {
-        System.out.println("🔵 API CALL: GET /api/tasks - Getting all tasks");
-        List<TaskDto> tasks = taskService.getAllTasks();
-        System.out.println("✅ SUCCESS: Returning " + tasks.size() + " tasks");
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<TaskSummaryDto>> getAllTasks(@RequestParam(required = false) Integer limit,
+                                                            @RequestParam(required = false) String after,
+                                                            @RequestParam(required = false) String fields,
+                                                            WebRequest webRequest) {
+        RequestTracer.Span trace = tracer.start("getAllTasks", "limit", limit, "fields", fields);
+        try {
+            if (notModified(webRequest, taskService.getAllTasksVersion(), trace)) {
+                return null;
+            }
+            TaskPage page = taskService.getAllTasks(after, limit, fields);
+            trace.success("count", page.getItems().size());
+            return pageResponse(page);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllTasks(@RequestParam(required = false) String after,
+                                                                @RequestParam(required = false) String fields) {
+        RequestTracer.Span trace = tracer.start("streamAllTasks", "fields", fields);
+        try {
+            return ndjsonResponse(taskService.streamAllTasks(after, fields), trace);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskSummaryDto>> searchTasks(@RequestParam String q,
+                                                            @RequestParam(required = false) TaskStatus status,
+                                                            @RequestParam(required = false) TaskPriority priority,
+                                                            @RequestParam(required = false) String staffId,
+                                                            @RequestParam(required = false) Integer limit,
+                                                            @RequestParam(required = false) String fields,
+                                                            WebRequest webRequest) {
+        RequestTracer.Span trace = tracer.start("searchTasks", "q", q, "status", status, "priority", priority,
+                "staffId", staffId, "limit", limit);
+        try {
+            if (notModified(webRequest, taskService.getAllTasksVersion(), trace)) {
+                return null;
+            }
+            List<TaskSummaryDto> tasks = taskService.searchTasks(q, status, priority, staffId, limit, fields);
+            trace.success("count", tasks.size());
+            return ResponseEntity.ok(tasks);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping("/stats")
+    public ResponseEntity<WorkloadStatsDto> getWorkloadStats() {
+        RequestTracer.Span trace = tracer.start("getWorkloadStats");
+        WorkloadStatsDto stats = taskService.getWorkloadStats();
+        trace.success("staff", stats.getStaff().size(), "total", stats.getTotals().getTotal());
+        return ResponseEntity.ok(stats);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDto> getTaskById(@PathVariable String id) {
-        System.out.println("🔵 API CALL: GET /api/tasks/" + id + " - Getting task details");
+    public ResponseEntity<TaskDto> getTaskById(@PathVariable String id,
+                                               @RequestParam(defaultValue = "false") boolean fullHistory,
+                                               WebRequest webRequest) {
+        RequestTracer.Span trace = tracer.start("getTaskById", "taskId", id, "fullHistory", fullHistory);
         try {
-            TaskDto task = taskService.getTaskById(id);
-            System.out.println("✅ SUCCESS: Found task: " + task.getTitle());
+            if (notModified(webRequest, taskService.getTaskVersion(id), trace)) {
+                return null;
+            }
+            TaskDto task = taskService.getTaskById(id, fullHistory);
+            trace.success("title", task.getTitle());
             return ResponseEntity.ok(task);
         } catch (RuntimeException e) {
-            System.out.println("❌ ERROR: Task not found with ID: " + id);
+            trace.error("error", "not found", "taskId", id);
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @GetMapping("/{id}/activity")
+    public ResponseEntity<List<ActivityLogDto>> getActivityHistory(
+            @PathVariable String id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        RequestTracer.Span trace = tracer.start("getActivityHistory", "taskId", id, "since", since, "limit", limit);
+        try {
+            if (notModified(webRequest, taskService.getTaskVersion(id), trace)) {
+                return null;
+            }
+            List<ActivityLogDto> activity = taskService.getActivityHistory(id, since, limit);
+            trace.success("count", activity.size());
+            return ResponseEntity.ok(activity);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            trace.error("error", "not found", "taskId", id);
             return ResponseEntity.notFound().build();
         }
     }
     
     @GetMapping("/staff/{staffId}")
-    public ResponseEntity<List<TaskDto>> getTasksByStaffId(@PathVariable String staffId) {
-        System.out.println("🔵 API CALL: GET /api/tasks/staff/" + staffId + " - Getting tasks for staff");
-        List<TaskDto> tasks = taskService.getTasksByStaffId(staffId);
-        System.out.println("✅ SUCCESS: Found " + tasks.size() + " tasks for staff " + staffId);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<TaskSummaryDto>> getTasksByStaffId(@PathVariable String staffId,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  @RequestParam(required = false) String after,
+                                                                  @RequestParam(required = false) String fields,
+                                                                  WebRequest webRequest) {
+        RequestTracer.Span trace = tracer.start("getTasksByStaffId", "staffId", staffId, "limit", limit, "fields", fields);
+        try {
+            if (notModified(webRequest, taskService.getStaffTasksVersion(staffId), trace)) {
+                return null;
+            }
+            TaskPage page = taskService.getTasksByStaffId(staffId, after, limit, fields);
+            trace.success("count", page.getItems().size());
+            return pageResponse(page);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping(value = "/staff/{staffId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTasksByStaffId(@PathVariable String staffId,
+                                                                      @RequestParam(required = false) String after,
+                                                                      @RequestParam(required = false) String fields) {
+        RequestTracer.Span trace = tracer.start("streamTasksByStaffId", "staffId", staffId, "fields", fields);
+        try {
+            return ndjsonResponse(taskService.streamTasksByStaffId(staffId, after, fields), trace);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    /**
+     * Push changes to a staff member's task list as server-sent events
+     * 
+     * Reconnecting clients resume with the Last-Event-ID header that
+     * EventSource sends, or with "after" when they track the sequence themselves.
+     */
+    @GetMapping(value = "/staff/{staffId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStaffEvents(@PathVariable String staffId,
+                                                        @RequestParam(required = false) Long after,
+                                                        @RequestHeader(value = "Last-Event-ID", required = false)
+                                                        String lastEventId) {
+        RequestTracer.Span trace = tracer.start("streamStaffEvents", "staffId", staffId, "after", after,
+                "lastEventId", lastEventId);
+        Long resumeAfter = after;
+        if (resumeAfter == null && lastEventId != null) {
+            try {
+                resumeAfter = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                // Not one of our IDs; the subscription starts with a RESET
+            }
+        }
+        SseEmitter emitter = eventFeed.subscribe(staffId, resumeAfter);
+        trace.success("resumeAfter", resumeAfter);
+        return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(emitter);
     }
     
     @GetMapping("/date-range")
-    public ResponseEntity<List<TaskDto>> getTasksByDateRange(
+    public ResponseEntity<List<TaskSummaryDto>> getTasksByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        RequestTracer.Span trace = tracer.start("getTasksByDateRange", "startDate", startDate, "endDate", endDate, "limit", limit);
+        try {
+            if (notModified(webRequest, taskService.getDateRangeTasksVersion(endDate), trace)) {
+                return null;
+            }
+            TaskPage page = taskService.getTasksByDateRange(startDate, endDate, after, limit, fields);
+            trace.success("count", page.getItems().size());
+            return pageResponse(page);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping(value = "/date-range", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTasksByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        System.out.println("🔵 API CALL: GET /api/tasks/date-range - Smart daily view from " + startDate + " to " + endDate);
-        List<TaskDto> tasks = taskService.getTasksByDateRange(startDate, endDate);
-        System.out.println("✅ SUCCESS: Smart view returning " + tasks.size() + " tasks");
-        return ResponseEntity.ok(tasks);
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String fields) {
+        RequestTracer.Span trace = tracer.start("streamTasksByDateRange", "startDate", startDate, "endDate", endDate);
+        try {
+            return ndjsonResponse(taskService.streamTasksByDateRange(startDate, endDate, after, fields), trace);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @PostMapping("/{id}/assign-by-ref")
     public ResponseEntity<TaskDto> assignTaskByRef(@PathVariable String id,
-                                                 @RequestBody AssignTaskRequest request) {
-        System.out.println("🔵 API CALL: POST /api/tasks/" + id + "/assign-by-ref - Reassigning to " + request.getNewStaffId());
+                                                 @RequestBody AssignTaskRequest request,
+                                                 @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        RequestTracer.Span trace = tracer.start("assignTaskByRef", "taskId", id, "newStaffId", request.getNewStaffId());
         try {
-            TaskDto task = taskService.assignTaskByRef(id, request);
-            System.out.println("✅ SUCCESS: Task reassigned. New task ID: " + task.getId());
-            return ResponseEntity.ok(task);
+            TaskDto task = taskService.assignTaskByRef(id, request, expectedVersion(ifMatch));
+            trace.success("newTaskId", task.getId());
+            return ResponseEntity.ok().eTag(etag(task.getVersion())).body(task);
+        } catch (VersionConflictException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (TaskReplacedException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            // Both or neither of newStaffId and autoAssign, or no staff member left to pick
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
         } catch (RuntimeException e) {
-            System.out.println("❌ ERROR: Failed to reassign task - " + e.getMessage());
+            trace.error("error", e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
     
     @PutMapping("/{id}/priority")
     public ResponseEntity<TaskDto> updateTaskPriority(@PathVariable String id,
-                                                    @RequestBody UpdatePriorityRequest request) {
-        System.out.println("🔵 API CALL: PUT /api/tasks/" + id + "/priority - Updating to " + request.getPriority());
+                                                    @RequestBody UpdatePriorityRequest request,
+                                                    @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        RequestTracer.Span trace = tracer.start("updateTaskPriority", "taskId", id, "priority", request.getPriority());
         try {
-            TaskDto task = taskService.updateTaskPriority(id, request);
-            System.out.println("✅ SUCCESS: Priority updated to " + task.getPriority());
-            return ResponseEntity.ok(task);
+            TaskDto task = taskService.updateTaskPriority(id, request, expectedVersion(ifMatch));
+            trace.success("priority", task.getPriority());
+            return ResponseEntity.ok().eTag(etag(task.getVersion())).body(task);
+        } catch (VersionConflictException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
         } catch (RuntimeException e) {
-            System.out.println("❌ ERROR: Failed to update priority - " + e.getMessage());
+            trace.error("error", e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
     
     @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<TaskDto>> getTasksByPriority(@PathVariable TaskPriority priority) {
-        System.out.println("🔵 API CALL: GET /api/tasks/priority/" + priority + " - Filtering by priority");
-        List<TaskDto> tasks = taskService.getTasksByPriority(priority);
-        System.out.println("✅ SUCCESS: Found " + tasks.size() + " tasks with " + priority + " priority");
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<TaskSummaryDto>> getTasksByPriority(@PathVariable TaskPriority priority,
+                                                                   @RequestParam(required = false) Integer limit,
+                                                                   @RequestParam(required = false) String after,
+                                                                   @RequestParam(required = false) String fields,
+                                                                   WebRequest webRequest) {
+        RequestTracer.Span trace = tracer.start("getTasksByPriority", "priority", priority, "limit", limit, "fields", fields);
+        try {
+            if (notModified(webRequest, taskService.getPriorityTasksVersion(priority), trace)) {
+                return null;
+            }
+            TaskPage page = taskService.getTasksByPriority(priority, after, limit, fields);
+            trace.success("count", page.getItems().size());
+            return pageResponse(page);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @GetMapping(value = "/priority/{priority}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamTasksByPriority(@PathVariable TaskPriority priority,
+                                                                       @RequestParam(required = false) String after,
+                                                                       @RequestParam(required = false) String fields) {
+        RequestTracer.Span trace = tracer.start("streamTasksByPriority", "priority", priority, "fields", fields);
+        try {
+            return ndjsonResponse(taskService.streamTasksByPriority(priority, after, fields), trace);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
     }
     
     @PostMapping("/{id}/comments")
     public ResponseEntity<TaskDto> addCommentToTask(@PathVariable String id,
-                                                  @RequestBody AddCommentRequest request) {
-        System.out.println("🔵 API CALL: POST /api/tasks/" + id + "/comments - Adding comment by " + request.getUserId());
+                                                  @RequestBody AddCommentRequest request,
+                                                  @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        RequestTracer.Span trace = tracer.start("addCommentToTask", "taskId", id, "userId", request.getUserId());
         try {
-            TaskDto task = taskService.addCommentToTask(id, request);
-            System.out.println("✅ SUCCESS: Comment added. Total comments: " + task.getComments().size());
-            return ResponseEntity.ok(task);
+            TaskDto task = taskService.addCommentToTask(id, request, expectedVersion(ifMatch));
+            trace.success("comments", task.getComments().size());
+            return ResponseEntity.ok().eTag(etag(task.getVersion())).body(task);
+        } catch (VersionConflictException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
         } catch (RuntimeException e) {
-            System.out.println("❌ ERROR: Failed to add comment - " + e.getMessage());
+            trace.error("error", e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
@@ -126,23 +371,151 @@ public class TaskController {
     @PutMapping("/{id}/status")
     public ResponseEntity<TaskDto> updateTaskStatus(@PathVariable String id,
                                                   @RequestParam TaskStatus status,
-                                                  @RequestParam(defaultValue = "system") String updatedBy) {
-        System.out.println("🔵 API CALL: PUT /api/tasks/" + id + "/status - Updating to " + status);
+                                                  @RequestParam(defaultValue = "system") String updatedBy,
+                                                  @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+        RequestTracer.Span trace = tracer.start("updateTaskStatus", "taskId", id, "status", status);
         try {
-            TaskDto task = taskService.updateTaskStatus(id, status, updatedBy);
-            System.out.println("✅ SUCCESS: Status updated to " + task.getStatus());
-            return ResponseEntity.ok(task);
+            TaskDto task = taskService.updateTaskStatus(id, status, updatedBy, expectedVersion(ifMatch));
+            trace.success("status", task.getStatus());
+            return ResponseEntity.ok().eTag(etag(task.getVersion())).body(task);
+        } catch (VersionConflictException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (TaskReplacedException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (RuntimeException e) {
-            System.out.println("❌ ERROR: Failed to update status - " + e.getMessage());
+            trace.error("error", e.getMessage());
             return ResponseEntity.notFound().build();
         }
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createTasks(@RequestBody List<CreateTaskRequest> requests,
+                                                     @RequestParam(defaultValue = "system") String createdBy) {
+        RequestTracer.Span trace = tracer.start("createTasks", "size", requests.size());
+        try {
+            BatchResponse response = taskService.createTasks(requests, createdBy);
+            trace.success("succeeded", response.getSucceeded(), "failed", response.getFailed());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @PatchMapping("/batch/status")
+    public ResponseEntity<BatchResponse> updateTaskStatuses(@RequestBody List<BatchStatusItem> items,
+                                                            @RequestParam(defaultValue = "system") String updatedBy) {
+        RequestTracer.Span trace = tracer.start("updateTaskStatuses", "size", items.size());
+        try {
+            BatchResponse response = taskService.updateTaskStatuses(items, updatedBy);
+            trace.success("succeeded", response.getSucceeded(), "failed", response.getFailed());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    @PostMapping("/batch/assign")
+    public ResponseEntity<BatchResponse> assignTasks(@RequestBody List<BatchAssignItem> items,
+                                                     @RequestParam(defaultValue = "system") String reassignedBy) {
+        RequestTracer.Span trace = tracer.start("assignTasks", "size", items.size());
+        try {
+            BatchResponse response = taskService.assignTasks(items, reassignedBy);
+            trace.success("succeeded", response.getSucceeded(), "failed", response.getFailed());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            trace.error("error", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     @GetMapping("/staff")
     public ResponseEntity<?> getAllStaff() {
-        System.out.println("🔵 API CALL: GET /api/tasks/staff - Getting all staff members");
+        RequestTracer.Span trace = tracer.start("getAllStaff");
         var staff = taskService.getAllStaff();
-        System.out.println("✅ SUCCESS: Returning " + staff.size() + " staff members");
+        trace.success("count", staff.size());
         return ResponseEntity.ok(staff);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Answer a conditional GET from a version alone
+     * 
+     * Sets the ETag for the version and, if the client's If-None-Match
+     * matches it, the 304 status. The version must be read before the
+     * response body so the body is never older than its ETag.
+     * 
+     * @return true if the handler should return null, the response being complete
+     */
+    private static boolean notModified(WebRequest webRequest, long version, RequestTracer.Span trace) {
+        if (!webRequest.checkNotModified(etag(version))) {
+            return false;
+        }
+        trace.success("notModified", true);
+        return true;
+    }
+    
+    /**
+     * Strong ETag for a task or view version
+     */
+    private static String etag(long version) {
+        return "\"" + ETAG_EPOCH + "-" + Long.toString(version, 36) + "\"";
+    }
+    
+    /**
+     * Task version an If-Match header requires, or null if it sets no condition
+     * 
+     * Only the first entity tag is used. A tag that is not one of ours, such
+     * as one issued before a restart, gives -1, which no task version equals.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.split(",")[0].trim();
+        String prefix = "\"" + ETAG_EPOCH + "-";
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            try {
+                return Long.parseLong(tag.substring(prefix.length(), tag.length() - 1), 36);
+            } catch (NumberFormatException e) {
+                return -1L;
+            }
+        }
+        return -1L;
+    }
+    
+    /**
+     * Return a page as a plain list body, with the next-page cursor in a header
+     */
+    private ResponseEntity<List<TaskSummaryDto>> pageResponse(TaskPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+    
+    /**
+     * Write each element as one JSON line while the stream is consumed
+     * 
+     * Nothing is collected up front; Tomcat flushes its output buffer as it
+     * fills, so the client receives a chunked response of bounded memory.
+     */
+    private ResponseEntity<StreamingResponseBody> ndjsonResponse(Stream<?> items, RequestTracer.Span trace) {
+        StreamingResponseBody body = out -> {
+            long count = 0;
+            try (items) {
+                Iterator<?> iterator = items.iterator();
+                while (iterator.hasNext()) {
+                    out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    out.write('\n');
+                    count++;
+                }
+            }
+            trace.success("count", count);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
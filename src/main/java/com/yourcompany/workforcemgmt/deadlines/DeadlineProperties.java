@@ -0,0 +1,37 @@
+package com.yourcompany.workforcemgmt.deadlines;
+
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings for due date tracking, bound from "task-deadlines.*"
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "task-deadlines")
+public class DeadlineProperties {
+
+    /**
+     * Tracks due dates and marks overdue tasks when true
+     */
+    private boolean enabled = true;
+
+    /**
+     * Resolution of the timing wheel; deadlines are acted on up to one tick late, never early
+     */
+    private long tickMillis = 1000;
+
+    /**
+     * How long before its due date an ACTIVE task is escalated, or unset for no escalation
+     */
+    private Duration escalateBefore;
+
+    /**
+     * Priority an escalated task is raised to; tasks already at or above it are left alone
+     */
+    private TaskPriority escalateTo = TaskPriority.HIGH;
+}
@@ -0,0 +1,254 @@
+package com.yourcompany.workforcemgmt.deadlines;
+
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Timers for the due dates of ACTIVE tasks
+ *
+ * Every ACTIVE task with a due date has an overdue timer, and an
+ * escalation timer a configured lead before it, in a {@link TimingWheel}.
+ * The service calls {@link #track} after each change to a task, which
+ * schedules, moves or cancels the task's timers in constant time; a change
+ * that leaves the due date and status alone costs one map lookup. A ticker
+ * thread advances the wheel once per tick and hands the timers that came
+ * due to the handler in batches, outside the wheel's lock, so the service
+ * can apply a tick's deadlines as one batch write that shares one journal
+ * fsync; after a restart with many overdue tasks the first tick carries
+ * them all. Nothing ever scans the tasks after the startup pass that
+ * schedules the ones already stored.
+ *
+ * Timers are hints: the handler re-checks the task under its own lock, so
+ * a timer that raced a change to the task does nothing. A task keeps its
+ * entry after its overdue timer fires, so tracking it again does not mark
+ * it overdue twice; the entry goes when the task leaves ACTIVE.
+ */
+@Component
+public class DeadlineScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DeadlineScheduler.class);
+    private static final int MAX_BATCH = 1024;
+
+    /**
+     * What a timer is for
+     */
+    public enum Kind {
+        ESCALATE,
+        OVERDUE
+    }
+
+    /**
+     * A deadline that has been reached
+     *
+     * @param taskId the task it belongs to
+     * @param dueDate the task's due date when it was scheduled
+     * @param kind what it is for
+     * @param at when it was due: the due date, or the escalation lead before it
+     */
+    public record Deadline(TaskId taskId, long dueDate, Kind kind, long at) {
+    }
+
+    private final DeadlineProperties properties;
+    private final long tickMicros;
+    private final ConcurrentHashMap<TaskId, Tracked> tracked = new ConcurrentHashMap<>();
+    private final Map<Kind, LongAdder> fired = new EnumMap<>(Kind.class);
+    private final ScheduledExecutorService ticker;
+
+    // The wheel and the timers in tracked entries are guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TimingWheel<Deadline> wheel;
+
+    private volatile Consumer<List<Deadline>> handler;
+
+    public DeadlineScheduler(DeadlineProperties properties, MetricsRegistry metrics) {
+        if (properties.getTickMillis() < 1) {
+            throw new IllegalArgumentException("task-deadlines.tick-millis must be positive");
+        }
+        this.properties = properties;
+        this.tickMicros = properties.getTickMillis() * 1000;
+        this.wheel = new TimingWheel<>(tickOf(Timestamps.now()));
+        for (Kind kind : Kind.values()) {
+            fired.put(kind, new LongAdder());
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+        metrics.gauge("workforce_deadline_timers", "Due date and escalation timers pending", null,
+                () -> MetricsRegistry.single(pendingTimers()));
+        metrics.gauge("workforce_deadlines_reached", "Deadlines handed to the service, by kind", "kind", () -> {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            fired.forEach((kind, count) -> counts.put(kind.name(), count.sum()));
+            return counts;
+        });
+    }
+
+    /**
+     * Schedule the tasks already stored and start acting on deadlines
+     *
+     * @param active the ACTIVE tasks, read once
+     * @param handler called on the ticker thread with the deadlines reached in a tick, up to
+     *                {@value #MAX_BATCH} at a time
+     */
+    public void start(Stream<Task> active, Consumer<List<Deadline>> handler) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        this.handler = handler;
+        active.forEach(this::track);
+        ticker.scheduleAtFixedRate(this::tick, properties.getTickMillis(), properties.getTickMillis(),
+                TimeUnit.MILLISECONDS);
+        log.info("event=DEADLINES_STARTED tasks={} timers={}", tracked.size(), pendingTimers());
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * Bring a task's timers in line with its status and due date, after a change to it
+     */
+    public void track(Task task) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        TaskId id = task.getId();
+        long dueDate = task.getDueDate();
+        boolean pending = task.getStatus() == TaskStatus.ACTIVE && dueDate != Timestamps.NONE;
+        Tracked current = tracked.get(id);
+        if (pending ? current != null && current.dueDate == dueDate : current == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            // Read again under the lock: the task may have changed since, and the last call to get here wins
+            dueDate = task.getDueDate();
+            pending = task.getStatus() == TaskStatus.ACTIVE && dueDate != Timestamps.NONE;
+            current = tracked.get(id);
+            if (current != null) {
+                if (pending && current.dueDate == dueDate) {
+                    return;
+                }
+                cancel(current);
+                tracked.remove(id);
+            }
+            if (pending) {
+                tracked.put(id, schedule(id, dueDate));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the priority escalated tasks are raised to
+     */
+    public TaskPriority escalateTo() {
+        return properties.getEscalateTo();
+    }
+
+    /**
+     * @return number of timers in the wheel
+     */
+    public int pendingTimers() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Tracked schedule(TaskId id, long dueDate) {
+        Tracked entry = new Tracked(dueDate);
+        Duration lead = properties.getEscalateBefore();
+        if (lead != null && !lead.isNegative() && !lead.isZero()) {
+            long at = dueDate - lead.toNanos() / 1000;
+            entry.escalate = wheel.schedule(tickAfter(at), new Deadline(id, dueDate, Kind.ESCALATE, at));
+        }
+        entry.overdue = wheel.schedule(tickAfter(dueDate), new Deadline(id, dueDate, Kind.OVERDUE, dueDate));
+        return entry;
+    }
+
+    private void cancel(Tracked entry) {
+        if (entry.escalate != null) {
+            wheel.cancel(entry.escalate);
+        }
+        if (entry.overdue != null) {
+            wheel.cancel(entry.overdue);
+        }
+    }
+
+    private void tick() {
+        List<Deadline> reached = new ArrayList<>();
+        lock.lock();
+        try {
+            wheel.advance(tickOf(Timestamps.now()), reached::add);
+        } finally {
+            lock.unlock();
+        }
+        for (int from = 0; from < reached.size(); from += MAX_BATCH) {
+            List<Deadline> batch = reached.subList(from, Math.min(reached.size(), from + MAX_BATCH));
+            try {
+                handler.accept(batch);
+                for (Deadline deadline : batch) {
+                    fired.get(deadline.kind()).increment();
+                }
+            } catch (RuntimeException e) {
+                // A failed batch must not stop the ticker; scheduleAtFixedRate drops a task that throws
+                log.warn("event=DEADLINES_FAILED count={} first={}", batch.size(), batch.get(0).taskId(), e);
+            }
+        }
+    }
+
+    private long tickOf(long timestamp) {
+        return Math.floorDiv(timestamp, tickMicros);
+    }
+
+    /**
+     * @return the first tick that starts after the given time, so a timer never fires early
+     */
+    private long tickAfter(long timestamp) {
+        return tickOf(timestamp) + 1;
+    }
+
+    /**
+     * The due date a task's timers were scheduled for, and the timers
+     */
+    private static final class Tracked {
+
+        final long dueDate;
+        TimingWheel.Timer<Deadline> escalate;
+        TimingWheel.Timer<Deadline> overdue;
+
+        Tracked(long dueDate) {
+            this.dueDate = dueDate;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.yourcompany.workforcemgmt.deadlines;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel of timers keyed by tick
+ *
+ * There are {@value #LEVELS} wheels of {@value #SLOTS} slots. Wheel L
+ * holds the timers that share every tick bit above its own 8 with the
+ * current tick, in the slot given by their tick's bits at L, so level 0
+ * covers the next 256 ticks, level 1 the next 65,536, and so on. A timer
+ * beyond the top wheel is parked in it and placed again when its slot
+ * comes round. Each slot is a doubly-linked list, so adding and cancelling
+ * a timer is O(1). When the current tick's low bits roll over, the slot of
+ * the higher wheel that has come due is redistributed to the lower wheels;
+ * a timer moves down at most once per level over its life. Advancing by
+ * one tick touches one level 0 slot, plus a cascade every 256 ticks,
+ * regardless of how many timers are pending.
+ *
+ * Not thread-safe; callers hold a lock around every call.
+ *
+ * @param <T> the payload carried by each timer
+ */
+final class TimingWheel<T> {
+
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    /**
+     * A scheduled payload; returned by {@link #schedule} so it can be cancelled
+     */
+    static final class Timer<T> {
+
+        final long tick;
+        final T payload;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(long tick, T payload) {
+            this.tick = tick;
+            this.payload = payload;
+        }
+
+        boolean isScheduled() {
+            return next != null;
+        }
+    }
+
+    // One sentinel per slot; an empty slot's sentinel links to itself
+    private final Timer<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param startTick the first tick {@link #advance} will expire
+     */
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        @SuppressWarnings("unchecked")
+        Timer<T>[][] slots = (Timer<T>[][]) new Timer<?>[LEVELS][SLOTS];
+        this.slots = slots;
+        for (Timer<T>[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                Timer<T> sentinel = new Timer<>(0, null);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                level[i] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Add a timer; a tick that has already passed expires on the next advance
+     *
+     * @param tick when the timer expires
+     * @param payload what to hand back when it does
+     * @return the timer, for cancelling
+     */
+    Timer<T> schedule(long tick, T payload) {
+        Timer<T> timer = new Timer<>(tick, payload);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Remove a timer that has not expired; does nothing if it has
+     */
+    void cancel(Timer<T> timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    /**
+     * Expire every timer whose tick is at or before the given one
+     *
+     * @param tick the tick to advance to, inclusive
+     * @param expired receives each expired payload, in tick order
+     */
+    void advance(long tick, Consumer<T> expired) {
+        while (currentTick <= tick) {
+            cascade();
+            Timer<T> sentinel = slots[0][(int) (currentTick & MASK)];
+            while (sentinel.next != sentinel) {
+                Timer<T> timer = sentinel.next;
+                unlink(timer);
+                size--;
+                expired.accept(timer.payload);
+            }
+            currentTick++;
+        }
+    }
+
+    /**
+     * @return number of timers pending
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Redistribute the higher slots that start at the current tick, highest first
+     */
+    private void cascade() {
+        int top = 0;
+        while (top + 1 < LEVELS && (currentTick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            Timer<T> sentinel = slots[level][(int) ((currentTick >>> (SLOT_BITS * level)) & MASK)];
+            while (sentinel.next != sentinel) {
+                Timer<T> timer = sentinel.next;
+                unlink(timer);
+                place(timer);
+            }
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        long tick = Math.max(timer.tick, currentTick);
+        int level = 0;
+        while (level < LEVELS && !sameAbove(tick, currentTick, level)) {
+            level++;
+        }
+        int slot;
+        if (level == LEVELS) {
+            // Beyond the top wheel: park in the top slot that cascades last and place it again from there
+            level = LEVELS - 1;
+            slot = (int) (((currentTick >>> (SLOT_BITS * level)) - 1) & MASK);
+        } else {
+            slot = (int) ((tick >>> (SLOT_BITS * level)) & MASK);
+        }
+        Timer<T> sentinel = slots[level][slot];
+        timer.prev = sentinel.prev;
+        timer.next = sentinel;
+        sentinel.prev.next = timer;
+        sentinel.prev = timer;
+    }
+
+    /**
+     * @return whether two ticks agree in every bit above the given wheel's
+     */
+    private static boolean sameAbove(long a, long b, int level) {
+        int shift = SLOT_BITS * (level + 1);
+        return a >>> shift == b >>> shift;
+    }
+
+    private static <T> void unlink(Timer<T> timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+    }
+}
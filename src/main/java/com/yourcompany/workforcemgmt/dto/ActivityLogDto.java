@@ -0,0 +1,28 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for an activity log entry
+ * 
+ * The readable form of {@link com.yourcompany.workforcemgmt.model.ActivityLog},
+ * with the description rendered from the action and its values
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogDto {
+    
+    private String id;
+    private String taskId;
+    private String userId;
+    private String action;
+    private String description;
+    private LocalDateTime timestamp;
+}
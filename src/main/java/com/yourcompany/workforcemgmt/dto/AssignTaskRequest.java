@@ -18,10 +18,25 @@ import lombok.NoArgsConstructor;
 public class AssignTaskRequest {
     
     /**
-     * ID of the staff member to reassign the task to (required)
+     * ID of the staff member to reassign the task to (required unless autoAssign is set)
      */
     private String newStaffId;
     
+    /**
+     * Reassign to the least-loaded staff member other than the current assignee, instead of newStaffId (optional)
+     */
+    private Boolean autoAssign;
+    
+    /**
+     * With autoAssign, only pick staff from this department (optional)
+     */
+    private String department;
+    
+    /**
+     * With autoAssign, only pick staff with this role (optional)
+     */
+    private String role;
+    
     /**
      * ID of the user performing the reassignment (required for audit trail)
      */
@@ -0,0 +1,29 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a batch reassignment
+ * 
+ * Each entry is handled like assign-by-ref: the task is cancelled and a
+ * copy is created for the new staff member.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAssignItem {
+    
+    /**
+     * ID of the task to reassign (required)
+     */
+    private String taskId;
+    
+    /**
+     * ID of the staff member to reassign the task to (required)
+     */
+    private String newStaffId;
+}
@@ -0,0 +1,44 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one entry of a batch request
+ * 
+ * Successful entries carry the ID of the task that was created or updated;
+ * failed entries carry an error message instead.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult {
+    
+    /**
+     * Position of the entry in the request
+     */
+    private int index;
+    
+    /**
+     * ID of the resulting task (the new task for creates and reassignments)
+     */
+    private String id;
+    
+    /**
+     * Why the entry was rejected, null when it succeeded
+     */
+    private String error;
+    
+    public static BatchItemResult ok(int index, String id) {
+        return new BatchItemResult(index, id, null);
+    }
+    
+    public static BatchItemResult failed(int index, String error) {
+        return new BatchItemResult(index, null, error);
+    }
+}
@@ -0,0 +1,27 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for batch endpoints
+ * 
+ * Entries are applied independently, so a batch can partly succeed;
+ * results are listed in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+    
+    private int succeeded;
+    
+    private int failed;
+    
+    private List<BatchItemResult> results;
+}
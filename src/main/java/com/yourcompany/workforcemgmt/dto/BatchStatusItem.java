@@ -0,0 +1,27 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a batch status update
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchStatusItem {
+    
+    /**
+     * ID of the task to update (required)
+     */
+    private String taskId;
+    
+    /**
+     * New status for the task (required)
+     */
+    private TaskStatus status;
+}
@@ -0,0 +1,26 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a comment
+ * 
+ * The readable form of {@link com.yourcompany.workforcemgmt.model.Comment}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDto {
+    
+    private String id;
+    private String taskId;
+    private String userId;
+    private String text;
+    private LocalDateTime timestamp;
+}
@@ -31,10 +31,25 @@ public class CreateTaskRequest {
     private String description;
     
     /**
-     * ID of the staff member to assign this task to (required)
+     * ID of the staff member to assign this task to (required unless autoAssign is set)
      */
     private String assignedStaffId;
     
+    /**
+     * Assign the task to the least-loaded staff member instead of assignedStaffId (optional)
+     */
+    private Boolean autoAssign;
+    
+    /**
+     * With autoAssign, only pick staff from this department (optional)
+     */
+    private String department;
+    
+    /**
+     * With autoAssign, only pick staff with this role (optional)
+     */
+    private String role;
+    
     /**
      * When the task should start (required)
      */
@@ -1,9 +1,8 @@
 package com.yourcompany.workforcemgmt.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.yourcompany.workforcemgmt.model.TaskPriority;
 import com.yourcompany.workforcemgmt.model.TaskStatus;
-import com.yourcompany.workforcemgmt.model.ActivityLog;
-import com.yourcompany.workforcemgmt.model.Comment;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,7 +15,8 @@ import java.util.List;
  * Data Transfer Object for Task entity
  * 
  * Used for API responses to provide complete task information
- * including activity history and comments
+ * including activity history and comments. Older entries may be left out
+ * of the lists, which the counts show; see TaskMapper.
  */
 @Data
 @Builder
@@ -37,12 +37,28 @@ public class TaskDto {
     private String createdBy;
     
     /**
-     * Complete activity history for this task, sorted chronologically
+     * Version of the task this DTO was mapped from; served as the ETag, not in the body
      */
-    private List<ActivityLog> activityHistory;
+    @JsonIgnore
+    private long version;
     
     /**
-     * All user comments for this task, sorted chronologically
+     * Activity history for this task, sorted chronologically; the most recent entries unless full history was asked for
      */
-    private List<Comment> comments;
+    private List<ActivityLogDto> activityHistory;
+    
+    /**
+     * User comments for this task, sorted chronologically; the most recent ones unless full history was asked for
+     */
+    private List<CommentDto> comments;
+    
+    /**
+     * Number of activity entries the task has in all, listed or not
+     */
+    private int activityCount;
+    
+    /**
+     * Number of comments the task has in all, listed or not
+     */
+    private int commentCount;
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.yourcompany.workforcemgmt.model.ActivityAction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One change to a staff member's task list, sent on the staff event feed
+ *
+ * Applying the events in sequence order to the list from
+ * GET /api/tasks/staff/{staffId} keeps it current. A RESET means events
+ * may have been missed: the client should fetch the list again and apply
+ * the events that follow.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskEventDto {
+
+    /**
+     * How the event changes the staff member's list
+     */
+    public enum Type {
+        /**
+         * The task was added to the list or changed; replace any earlier copy
+         */
+        UPSERT,
+        /**
+         * The task left the list, because it was cancelled or reassigned
+         */
+        REMOVE,
+        /**
+         * The list must be fetched again before applying later events
+         */
+        RESET
+    }
+
+    /**
+     * Position in the staff member's feed, also sent as the SSE event ID
+     */
+    private long sequence;
+
+    private Type type;
+
+    /**
+     * The change that caused the event; null for RESET
+     */
+    private ActivityAction action;
+
+    private String taskId;
+
+    /**
+     * The task as it is now, for UPSERT events
+     */
+    private TaskSummaryDto task;
+}
@@ -0,0 +1,31 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paginated task list
+ *
+ * The controller returns the items as the response body and the cursor
+ * in a response header, so un-paged clients see the same body shape.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPage {
+
+    /**
+     * Tasks on this page, in the view's stable order
+     */
+    private List<TaskSummaryDto> items;
+
+    /**
+     * Opaque cursor to pass as "after" for the next page, or null on the last page
+     */
+    private String nextCursor;
+}
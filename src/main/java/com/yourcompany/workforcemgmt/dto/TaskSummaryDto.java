@@ -0,0 +1,36 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight projection of a Task for list endpoints
+ *
+ * Carries only the columns a task board renders. Activity history and
+ * comments are left out; they are served by GET /api/tasks/{id}.
+ * Fields that were not selected with "fields=" stay null and are omitted
+ * from the JSON output.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskSummaryDto {
+
+    private String id;
+    private String title;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private String assignedStaffId;
+    private LocalDateTime startDate;
+    private LocalDateTime dueDate;
+    private LocalDateTime updatedAt;
+}
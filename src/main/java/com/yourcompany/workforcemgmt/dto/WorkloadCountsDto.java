@@ -0,0 +1,57 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Task counts for one staff member, one department or everyone
+ *
+ * Cancelled tasks are not counted. Zero counts are left out of the maps.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkloadCountsDto {
+    
+    /**
+     * Department of the staff member; only set on per-staff counts
+     */
+    private String department;
+    
+    /**
+     * Non-cancelled tasks
+     */
+    private long total;
+    
+    /**
+     * ACTIVE tasks
+     */
+    private long active;
+    
+    /**
+     * ACTIVE tasks past their due date
+     */
+    private long overdue;
+    
+    /**
+     * Non-cancelled tasks by status and then priority
+     */
+    @Builder.Default
+    private Map<TaskStatus, Map<TaskPriority, Long>> byStatus = new EnumMap<>(TaskStatus.class);
+    
+    /**
+     * Overdue tasks by priority
+     */
+    @Builder.Default
+    private Map<TaskPriority, Long> overdueByPriority = new EnumMap<>(TaskPriority.class);
+}
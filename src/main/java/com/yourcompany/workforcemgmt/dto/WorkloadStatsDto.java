@@ -0,0 +1,39 @@
+package com.yourcompany.workforcemgmt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Workload dashboard: task counts for everyone, per department and per staff member
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkloadStatsDto {
+    
+    /**
+     * When the counts were read; overdue counts are as of this time, to the minute
+     */
+    private LocalDateTime generatedAt;
+    
+    /**
+     * Counts across all staff
+     */
+    private WorkloadCountsDto totals;
+    
+    /**
+     * Counts per department, by name; staff not in the directory count under "Unknown"
+     */
+    private Map<String, WorkloadCountsDto> departments;
+    
+    /**
+     * Counts per staff member with at least one non-cancelled task, by staff ID
+     */
+    private Map<String, WorkloadCountsDto> staff;
+}
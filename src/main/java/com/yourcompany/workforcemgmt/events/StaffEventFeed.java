@@ -0,0 +1,280 @@
+package com.yourcompany.workforcemgmt.events;
+
+import com.yourcompany.workforcemgmt.dto.TaskEventDto;
+import com.yourcompany.workforcemgmt.mapper.TaskMapper;
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import com.yourcompany.workforcemgmt.model.ActivityAction;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server-sent event feed of changes to each staff member's task list
+ *
+ * Each staff member with a subscriber has a channel holding a sequence
+ * counter, the last few events for clients that reconnect, and the open
+ * subscriptions. Publishing maps the task once, appends the event to the
+ * channel and offers it to each subscriber's bounded queue; nothing on the
+ * write path waits for a connection. Staff nobody has subscribed to have
+ * no channel and their changes cost one map lookup.
+ *
+ * A small dispatcher pool drains subscriber queues onto their connections,
+ * one drain per subscriber at a time. A subscriber whose queue fills up is
+ * sent what it has queued and then disconnected; it resumes where it left
+ * off by reconnecting with the Last-Event-ID of the last event it got.
+ * Idle subscriptions get a heartbeat comment, which keeps proxies from
+ * closing them and finds connections the client has dropped.
+ *
+ * Sequences start from the time the channel was created, in microseconds,
+ * so an ID from before a restart is recognised as unknown rather than
+ * mistaken for a current one. A subscription that cannot resume exactly,
+ * including a new one, starts with a RESET event.
+ */
+@Component
+public class StaffEventFeed {
+
+    // Queued like an event, sent as an SSE comment
+    private static final TaskEventDto HEARTBEAT = new TaskEventDto();
+
+    private final TaskEventProperties properties;
+    private final TaskMapper taskMapper;
+    private final ConcurrentHashMap<String, Channel> channels = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService dispatcher;
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final LongAdder overflows = new LongAdder();
+
+    public StaffEventFeed(TaskEventProperties properties, TaskMapper taskMapper, MetricsRegistry metrics) {
+        this.properties = properties;
+        this.taskMapper = taskMapper;
+        AtomicInteger threads = new AtomicInteger();
+        this.dispatcher = Executors.newScheduledThreadPool(properties.getDispatcherThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "task-events-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleAtFixedRate(this::heartbeat, properties.getHeartbeatMillis(),
+                properties.getHeartbeatMillis(), TimeUnit.MILLISECONDS);
+        metrics.gauge("workforce_event_subscribers", "Open staff event feed subscriptions", null,
+                () -> MetricsRegistry.single(subscriberCount.get()));
+        metrics.gauge("workforce_event_overflows", "Subscriptions closed because the client fell behind", null,
+                () -> MetricsRegistry.single(overflows.sum()));
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Tell the assignee's subscribers that a task changed
+     *
+     * A cancelled task is announced as removed from the list, any other as
+     * added or updated.
+     *
+     * @param task the task after the change
+     * @param action what changed
+     */
+    public void publish(Task task, ActivityAction action) {
+        String staffId = task.getAssignedStaffId();
+        Channel channel = staffId != null ? channels.get(staffId) : null;
+        if (channel == null) {
+            return;
+        }
+        boolean removed = task.getStatus() == TaskStatus.CANCELLED;
+        channel.lock.lock();
+        try {
+            TaskEventDto event = TaskEventDto.builder()
+                    .sequence(++channel.sequence)
+                    .type(removed ? TaskEventDto.Type.REMOVE : TaskEventDto.Type.UPSERT)
+                    .action(action)
+                    .taskId(task.getId().toString())
+                    .task(removed ? null : taskMapper.taskToTaskSummaryDto(task))
+                    .build();
+            channel.recent.addLast(event);
+            if (channel.recent.size() > properties.getReplayBuffer()) {
+                channel.evictedThrough = channel.recent.removeFirst().getSequence();
+            }
+            for (Subscriber subscriber : channel.subscribers) {
+                subscriber.offer(event);
+            }
+        } finally {
+            channel.lock.unlock();
+        }
+    }
+
+    /**
+     * Open a subscription to a staff member's changes
+     *
+     * @param staffId the staff member ID
+     * @param after sequence of the last event the client applied, or null for a new subscription
+     * @return the emitter to return from the request handler
+     */
+    public SseEmitter subscribe(String staffId, Long after) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeoutMillis());
+        Channel channel = channels.computeIfAbsent(staffId, id -> new Channel());
+        Subscriber subscriber = new Subscriber(channel, emitter,
+                Math.max(properties.getSubscriberBuffer(), properties.getReplayBuffer() + 1));
+
+        channel.lock.lock();
+        try {
+            if (after != null && after >= channel.evictedThrough && after <= channel.sequence) {
+                for (TaskEventDto event : channel.recent) {
+                    if (event.getSequence() > after) {
+                        subscriber.offer(event);
+                    }
+                }
+            } else {
+                subscriber.offer(TaskEventDto.builder()
+                        .sequence(channel.sequence)
+                        .type(TaskEventDto.Type.RESET)
+                        .build());
+            }
+            channel.subscribers.add(subscriber);
+        } finally {
+            channel.lock.unlock();
+        }
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+        return emitter;
+    }
+
+    private void heartbeat() {
+        for (Channel channel : channels.values()) {
+            channel.lock.lock();
+            try {
+                for (Subscriber subscriber : channel.subscribers) {
+                    subscriber.heartbeat();
+                }
+            } finally {
+                channel.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * One staff member's sequence, recent events and subscribers, guarded by the lock
+     */
+    private static final class Channel {
+
+        final ReentrantLock lock = new ReentrantLock();
+        final ArrayDeque<TaskEventDto> recent = new ArrayDeque<>();
+        final List<Subscriber> subscribers = new ArrayList<>();
+        long sequence = Timestamps.now();
+
+        // Highest sequence no longer in recent; clients at or after it can resume
+        long evictedThrough = sequence;
+    }
+
+    /**
+     * One open connection and the events queued for it
+     */
+    private final class Subscriber {
+
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<TaskEventDto> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        Subscriber(Channel channel, SseEmitter emitter, int capacity) {
+            this.channel = channel;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        /**
+         * Queue an event without blocking; called with the channel lock held
+         */
+        void offer(TaskEventDto event) {
+            if (overflowed) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                // Later events are dropped, so what was queued is still a gap-free prefix
+                overflowed = true;
+                overflows.increment();
+            }
+            schedule();
+        }
+
+        /**
+         * Queue a heartbeat if there is room; a full queue is about to be written anyway
+         */
+        void heartbeat() {
+            if (queue.offer(HEARTBEAT)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            if (!closed.get() && scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                TaskEventDto event;
+                while ((event = queue.poll()) != null) {
+                    if (event == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment(""));
+                        continue;
+                    }
+                    emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.getSequence()))
+                            .name(event.getType().name().toLowerCase(Locale.ROOT))
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+                if (overflowed) {
+                    emitter.complete();
+                    close();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The connection is gone; the container reports it through the emitter callbacks too
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty() && !overflowed) {
+                schedule();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            channel.lock.lock();
+            try {
+                channel.subscribers.remove(this);
+            } finally {
+                channel.lock.unlock();
+            }
+            queue.clear();
+            subscriberCount.decrementAndGet();
+        }
+    }
+}
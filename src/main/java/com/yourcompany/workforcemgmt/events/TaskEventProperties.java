@@ -0,0 +1,39 @@
+package com.yourcompany.workforcemgmt.events;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the per-staff task event feed, bound from "task-events.*"
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "task-events")
+public class TaskEventProperties {
+
+    /**
+     * Recent events kept per staff member for clients resuming after a reconnect
+     */
+    private int replayBuffer = 64;
+
+    /**
+     * Events queued for one subscriber before it is disconnected as too slow
+     */
+    private int subscriberBuffer = 256;
+
+    /**
+     * Threads writing events to subscriber connections
+     */
+    private int dispatcherThreads = 2;
+
+    /**
+     * Interval between heartbeat comments on each subscription
+     */
+    private long heartbeatMillis = 15_000;
+
+    /**
+     * How long a subscription stays open before the client has to reconnect
+     */
+    private long timeoutMillis = 30L * 60 * 1000;
+}
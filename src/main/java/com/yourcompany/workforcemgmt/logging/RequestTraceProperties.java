@@ -0,0 +1,37 @@
+package com.yourcompany.workforcemgmt.logging;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings for asynchronous request tracing, bound from "request-trace.*"
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "request-trace")
+public class RequestTraceProperties {
+
+    /**
+     * Turns request tracing off entirely when false
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of events the ring buffer holds before new ones are dropped
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * Fraction of requests traced (0.0 - 1.0) for endpoints without their own rate
+     */
+    private double defaultSampleRate = 1.0;
+
+    /**
+     * Per-endpoint sample rates keyed by handler name, e.g. getAllTasks=0.01
+     */
+    private Map<String, Double> sampleRate = new HashMap<>();
+}
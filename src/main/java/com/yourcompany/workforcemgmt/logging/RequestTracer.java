@@ -0,0 +1,195 @@
+package com.yourcompany.workforcemgmt.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, sampled request tracing for the REST controllers
+ *
+ * Request threads only build a small event and offer it to a lock-free ring
+ * buffer; formatting and writing happen on a single background thread. When
+ * the buffer is full the event is dropped and counted rather than making the
+ * request wait. Sampling is decided once per request when the span starts,
+ * so a traced request logs both its call and its outcome. Errors are always
+ * traced, even for requests that were not sampled.
+ *
+ * Events are written through SLF4J as key=value pairs, for example:
+ * endpoint=createTask event=SUCCESS thread=http-nio-8080-exec-1 taskId=...
+ */
+@Component
+public class RequestTracer {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestTracer.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Stage of a request an event describes
+     */
+    public enum Event {
+        CALL,
+        SUCCESS,
+        ERROR
+    }
+
+    private record TraceEvent(long epochMillis, String thread, String endpoint, Event event, Object[] fields) {
+    }
+
+    private final RequestTraceProperties properties;
+    private final TraceRingBuffer<TraceEvent> buffer;
+    private final LongAdder dropped = new LongAdder();
+    private volatile boolean running;
+    private Thread writer;
+
+    public RequestTracer(RequestTraceProperties properties) {
+        this.properties = properties;
+        this.buffer = new TraceRingBuffer<>(properties.getBufferSize());
+    }
+
+    @PostConstruct
+    void startWriter() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "request-trace-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stopWriter() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * Begin tracing a request, recording its CALL event if it is sampled
+     *
+     * @param endpoint handler name used for sampling and as the "endpoint" field
+     * @param fields alternating keys and values describing the request
+     * @return span used to record the outcome of the request
+     */
+    public Span start(String endpoint, Object... fields) {
+        boolean sampled = properties.isEnabled() && isSampled(endpoint);
+        if (sampled) {
+            publish(endpoint, Event.CALL, fields);
+        }
+        return new Span(endpoint, sampled);
+    }
+
+    /**
+     * @return number of events dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    private boolean isSampled(String endpoint) {
+        double rate = properties.getSampleRate().getOrDefault(endpoint, properties.getDefaultSampleRate());
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private void publish(String endpoint, Event event, Object[] fields) {
+        TraceEvent traceEvent = new TraceEvent(System.currentTimeMillis(), Thread.currentThread().getName(),
+                endpoint, event, fields);
+        if (!buffer.offer(traceEvent)) {
+            dropped.increment();
+        }
+    }
+
+    private void drainLoop() {
+        StringBuilder line = new StringBuilder(256);
+        long reportedDrops = 0;
+        long nextDropReport = System.nanoTime() + DROP_REPORT_INTERVAL_NANOS;
+        while (true) {
+            TraceEvent event = buffer.poll();
+            if (event != null) {
+                write(event, line);
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            if (System.nanoTime() - nextDropReport > 0) {
+                long drops = dropped.sum();
+                if (drops > reportedDrops) {
+                    log.warn("event=TRACE_DROPPED dropped={} total={}", drops - reportedDrops, drops);
+                    reportedDrops = drops;
+                }
+                nextDropReport = System.nanoTime() + DROP_REPORT_INTERVAL_NANOS;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private void write(TraceEvent event, StringBuilder line) {
+        line.setLength(0);
+        line.append("ts=").append(Instant.ofEpochMilli(event.epochMillis()))
+                .append(" endpoint=").append(event.endpoint())
+                .append(" event=").append(event.event())
+                .append(" thread=").append(event.thread());
+        Object[] fields = event.fields();
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            line.append(' ').append(fields[i]).append('=');
+            appendValue(line, fields[i + 1]);
+        }
+        if (event.event() == Event.ERROR) {
+            log.warn(line.toString());
+        } else {
+            log.info(line.toString());
+        }
+    }
+
+    private static void appendValue(StringBuilder line, Object value) {
+        String text = String.valueOf(value);
+        if (text.indexOf(' ') < 0 && text.indexOf('"') < 0 && !text.isEmpty()) {
+            line.append(text);
+            return;
+        }
+        line.append('"').append(text.replace("\"", "\\\"")).append('"');
+    }
+
+    /**
+     * Outcome recorder for one traced request
+     */
+    public final class Span {
+
+        private final String endpoint;
+        private final boolean sampled;
+
+        private Span(String endpoint, boolean sampled) {
+            this.endpoint = endpoint;
+            this.sampled = sampled;
+        }
+
+        /**
+         * Record a successful outcome, if this request is sampled
+         */
+        public void success(Object... fields) {
+            if (sampled) {
+                publish(endpoint, Event.SUCCESS, fields);
+            }
+        }
+
+        /**
+         * Record a failed outcome; errors are traced even when the request was not sampled
+         */
+        public void error(Object... fields) {
+            if (properties.isEnabled()) {
+                publish(endpoint, Event.ERROR, fields);
+            }
+        }
+    }
+}
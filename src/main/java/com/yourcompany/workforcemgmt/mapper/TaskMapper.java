@@ -1,10 +1,22 @@
 package com.yourcompany.workforcemgmt.mapper;
 
+import com.yourcompany.workforcemgmt.dto.ActivityLogDto;
+import com.yourcompany.workforcemgmt.dto.CommentDto;
 import com.yourcompany.workforcemgmt.dto.TaskDto;
+import com.yourcompany.workforcemgmt.dto.TaskSummaryDto;
+import com.yourcompany.workforcemgmt.model.ActivityLog;
+import com.yourcompany.workforcemgmt.model.Comment;
 import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.Timestamps;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -12,64 +24,181 @@ import java.util.stream.Collectors;
  * 
  * This replaces MapStruct to avoid annotation processor issues during compilation.
  * Provides type-safe mappings between domain objects and DTOs.
+ * 
+ * The entities are stored in a compact form (see Task); this is the only
+ * place IDs, times and activity descriptions are turned into text and
+ * LocalDateTime, and only for the fields a response actually includes.
  */
 @Component
 public class TaskMapper {
     
     /**
-     * Convert a Task entity to a TaskDto
+     * Columns that can be requested with the "fields=" parameter of list endpoints
+     */
+    public static final Set<String> SUMMARY_FIELDS = Set.of(
+            "id", "title", "status", "priority", "assignedStaffId", "startDate", "dueDate", "updatedAt");
+    
+    /**
+     * Convert a Task entity to a TaskSummaryDto with every summary column
+     * 
+     * @param task the Task entity to convert
+     * @return the corresponding TaskSummaryDto
+     */
+    public TaskSummaryDto taskToTaskSummaryDto(Task task) {
+        if (task == null) {
+            return null;
+        }
+        
+        return TaskSummaryDto.builder()
+                .id(task.getId().toString())
+                .title(task.getTitle())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .assignedStaffId(task.getAssignedStaffId())
+                .startDate(Timestamps.toDateTime(task.getStartDate()))
+                .dueDate(Timestamps.toDateTime(task.getDueDate()))
+                .updatedAt(Timestamps.toDateTime(task.getUpdatedAt()))
+                .build();
+    }
+    
+    /**
+     * Build a Task to TaskSummaryDto conversion limited to the selected columns
+     * 
+     * The selection is parsed once per request rather than once per task.
+     * 
+     * @param fields comma-separated column names, or null/blank for all summary columns
+     * @return conversion function for the selected columns
+     * @throws IllegalArgumentException if an unknown column is requested
+     */
+    public Function<Task, TaskSummaryDto> summaryProjection(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return this::taskToTaskSummaryDto;
+        }
+        
+        Set<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String field : selected) {
+            if (!SUMMARY_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field + ", expected one of " + SUMMARY_FIELDS);
+            }
+        }
+        
+        return task -> {
+            if (task == null) {
+                return null;
+            }
+            
+            TaskSummaryDto.TaskSummaryDtoBuilder summary = TaskSummaryDto.builder();
+            for (String field : selected) {
+                switch (field) {
+                    case "id" -> summary.id(task.getId().toString());
+                    case "title" -> summary.title(task.getTitle());
+                    case "status" -> summary.status(task.getStatus());
+                    case "priority" -> summary.priority(task.getPriority());
+                    case "assignedStaffId" -> summary.assignedStaffId(task.getAssignedStaffId());
+                    case "startDate" -> summary.startDate(Timestamps.toDateTime(task.getStartDate()));
+                    case "dueDate" -> summary.dueDate(Timestamps.toDateTime(task.getDueDate()));
+                    case "updatedAt" -> summary.updatedAt(Timestamps.toDateTime(task.getUpdatedAt()));
+                    default -> throw new IllegalStateException("Unhandled summary field: " + field);
+                }
+            }
+            return summary.build();
+        };
+    }
+    
+    /**
+     * Convert a Task entity to a TaskDto with the history and comments held in memory
      * 
      * @param task the Task entity to convert
      * @return the corresponding TaskDto
      */
     public TaskDto taskToTaskDto(Task task) {
+        return taskToTaskDto(task, false);
+    }
+    
+    /**
+     * Convert a Task entity to a TaskDto
+     * 
+     * Entries spilled to disk (see AppendOnlyLog#spill) are only read back
+     * when full history is asked for; otherwise the lists hold the recent
+     * entries still in memory, which for most tasks is all of them.
+     * 
+     * @param task the Task entity to convert
+     * @param fullHistory whether to include spilled history entries and comments
+     * @return the corresponding TaskDto
+     */
+    public TaskDto taskToTaskDto(Task task, boolean fullHistory) {
         if (task == null) {
             return null;
         }
         
+        // The version is read before the fields, so the DTO is never older than its version
+        long version = task.getVersion();
+        String taskId = task.getId().toString();
         return TaskDto.builder()
-                .id(task.getId())
+                .version(version)
+                .id(taskId)
                 .title(task.getTitle())
                 .description(task.getDescription())
                 .status(task.getStatus())
                 .priority(task.getPriority())
                 .assignedStaffId(task.getAssignedStaffId())
-                .startDate(task.getStartDate())
-                .dueDate(task.getDueDate())
-                .createdAt(task.getCreatedAt())
-                .updatedAt(task.getUpdatedAt())
+                .startDate(Timestamps.toDateTime(task.getStartDate()))
+                .dueDate(Timestamps.toDateTime(task.getDueDate()))
+                .createdAt(Timestamps.toDateTime(task.getCreatedAt()))
+                .updatedAt(Timestamps.toDateTime(task.getUpdatedAt()))
                 .createdBy(task.getCreatedBy())
-                .activityHistory(task.getActivityHistory())
-                .comments(task.getComments())
+                .activityHistory(activityLogsToDtos(taskId, fullHistory
+                        ? task.getActivityHistory() : task.getActivityHistory().resident()))
+                .comments(commentsToDtos(taskId, fullHistory ? task.getComments() : task.getComments().resident()))
+                .activityCount(task.getActivityHistory().size())
+                .commentCount(task.getComments().size())
                 .build();
     }
     
     /**
-     * Convert a TaskDto to a Task entity
+     * Convert activity log entries of one task to their readable form
      * 
-     * @param taskDto the TaskDto to convert
-     * @return the corresponding Task entity
+     * @param taskId text form of the owning task's ID
+     * @param entries the entries to convert
+     * @return the corresponding ActivityLogDto objects, in the same order
      */
-    public Task taskDtoToTask(TaskDto taskDto) {
-        if (taskDto == null) {
-            return null;
+    public List<ActivityLogDto> activityLogsToDtos(String taskId, Iterable<ActivityLog> entries) {
+        List<ActivityLogDto> dtos = new ArrayList<>();
+        for (ActivityLog entry : entries) {
+            dtos.add(ActivityLogDto.builder()
+                    .id(new UUID(entry.getIdHigh(), entry.getIdLow()).toString())
+                    .taskId(taskId)
+                    .userId(entry.getUserId())
+                    .action(entry.getAction().name())
+                    .description(entry.getAction().describe(entry.getFrom(), entry.getTo()))
+                    .timestamp(Timestamps.toDateTime(entry.getTimestamp()))
+                    .build());
         }
-        
-        return Task.builder()
-                .id(taskDto.getId())
-                .title(taskDto.getTitle())
-                .description(taskDto.getDescription())
-                .status(taskDto.getStatus())
-                .priority(taskDto.getPriority())
-                .assignedStaffId(taskDto.getAssignedStaffId())
-                .startDate(taskDto.getStartDate())
-                .dueDate(taskDto.getDueDate())
-                .createdAt(taskDto.getCreatedAt())
-                .updatedAt(taskDto.getUpdatedAt())
-                .createdBy(taskDto.getCreatedBy())
-                .activityHistory(taskDto.getActivityHistory())
-                .comments(taskDto.getComments())
-                .build();
+        return dtos;
+    }
+    
+    /**
+     * Convert comments of one task to their readable form
+     * 
+     * @param taskId text form of the owning task's ID
+     * @param comments the comments to convert
+     * @return the corresponding CommentDto objects, in the same order
+     */
+    public List<CommentDto> commentsToDtos(String taskId, Iterable<Comment> comments) {
+        List<CommentDto> dtos = new ArrayList<>();
+        for (Comment comment : comments) {
+            dtos.add(CommentDto.builder()
+                    .id(new UUID(comment.getIdHigh(), comment.getIdLow()).toString())
+                    .taskId(taskId)
+                    .userId(comment.getUserId())
+                    .text(comment.getText())
+                    .timestamp(Timestamps.toDateTime(comment.getTimestamp()))
+                    .build());
+        }
+        return dtos;
     }
     
     /**
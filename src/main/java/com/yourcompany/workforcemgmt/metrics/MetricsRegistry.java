@@ -0,0 +1,112 @@
+package com.yourcompany.workforcemgmt.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of histograms and gauges, rendered in Prometheus text format
+ *
+ * Histograms are looked up once, when the instrumented component is built,
+ * and then recorded into directly. Gauges are callbacks evaluated only when
+ * the metrics endpoint is scraped, so they add nothing to the request path.
+ */
+@Component
+public class MetricsRegistry {
+
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+
+    private final Map<String, Summary> summaries = new ConcurrentSkipListMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+
+    private record Summary(String help, String label, double scale, Map<String, Histogram> histograms) {
+    }
+
+    private record Gauge(String help, String label, Supplier<Map<String, ? extends Number>> values) {
+    }
+
+    /**
+     * Get or create a latency histogram recording nanoseconds, exported in seconds
+     *
+     * @param name metric family name
+     * @param help description shown in the HELP line
+     * @param label label name distinguishing the histograms in the family
+     * @param value label value for this histogram
+     * @return the histogram to record into
+     */
+    public Histogram latency(String name, String help, String label, String value) {
+        return histogram(name, help, label, value, 1e-9);
+    }
+
+    /**
+     * Get or create a histogram of plain values, exported unscaled
+     */
+    public Histogram distribution(String name, String help, String label, String value) {
+        return histogram(name, help, label, value, 1.0);
+    }
+
+    /**
+     * Register a gauge family whose values are computed at scrape time
+     *
+     * @param name metric family name
+     * @param help description shown in the HELP line
+     * @param label label name for the keys of the supplied map, or null for a single unlabeled value
+     * @param values callback returning the current value per label value
+     */
+    public void gauge(String name, String help, String label, Supplier<Map<String, ? extends Number>> values) {
+        gauges.put(name, new Gauge(help, label, values));
+    }
+
+    /**
+     * Render every metric in the Prometheus text exposition format
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(8192);
+        summaries.forEach((name, summary) -> {
+            header(out, name, summary.help(), "summary");
+            summary.histograms().forEach((labelValue, histogram) -> {
+                Histogram.Snapshot snapshot = histogram.snapshot();
+                for (double quantile : QUANTILES) {
+                    out.append(name).append('{').append(summary.label()).append("=\"").append(labelValue)
+                            .append("\",quantile=\"").append(quantile).append("\"} ")
+                            .append(snapshot.quantile(quantile) * summary.scale()).append('\n');
+                }
+                out.append(name).append("_sum{").append(summary.label()).append("=\"").append(labelValue)
+                        .append("\"} ").append(snapshot.getSum() * summary.scale()).append('\n');
+                out.append(name).append("_count{").append(summary.label()).append("=\"").append(labelValue)
+                        .append("\"} ").append(snapshot.getCount()).append('\n');
+            });
+        });
+        gauges.forEach((name, gauge) -> {
+            header(out, name, gauge.help(), "gauge");
+            gauge.values().get().forEach((labelValue, value) -> {
+                out.append(name);
+                if (gauge.label() != null) {
+                    out.append('{').append(gauge.label()).append("=\"").append(labelValue).append("\"}");
+                }
+                out.append(' ').append(value).append('\n');
+            });
+        });
+        return out.toString();
+    }
+
+    private Histogram histogram(String name, String help, String label, String value, double scale) {
+        Summary summary = summaries.computeIfAbsent(name,
+                n -> new Summary(help, label, scale, new ConcurrentSkipListMap<>()));
+        return summary.histograms().computeIfAbsent(value, v -> new Histogram());
+    }
+
+    private static void header(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    /**
+     * Convenience for single-value gauges
+     */
+    public static Map<String, Long> single(long value) {
+        return Map.of("", value);
+    }
+}
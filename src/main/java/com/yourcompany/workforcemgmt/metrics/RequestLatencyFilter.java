@@ -0,0 +1,65 @@
+package com.yourcompany.workforcemgmt.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the wall-clock time of every API request into a per-endpoint histogram
+ *
+ * The endpoint label is the name of the handler method Spring resolved, so
+ * path variables do not explode the label set. The timer wraps the whole
+ * filter chain, which includes serialization and, for NDJSON endpoints,
+ * streaming the body out.
+ */
+@Component
+public class RequestLatencyFilter extends OncePerRequestFilter {
+
+    private static final String METRIC = "workforce_http_request_duration_seconds";
+
+    private final MetricsRegistry metrics;
+    private final Map<Method, Histogram> byHandler = new ConcurrentHashMap<>();
+
+    public RequestLatencyFilter(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+            if (handler instanceof HandlerMethod handlerMethod) {
+                histogramFor(handlerMethod.getMethod()).recordSince(start);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    private Histogram histogramFor(Method method) {
+        // Plain get first: computeIfAbsent would lock the bin on every request
+        Histogram histogram = byHandler.get(method);
+        if (histogram == null) {
+            histogram = byHandler.computeIfAbsent(method, m -> metrics.latency(METRIC,
+                    "API request latency by handler, including response serialization", "endpoint", m.getName()));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,83 @@
+package com.yourcompany.workforcemgmt.model;
+
+/**
+ * Kinds of activity recorded in a task's history
+ *
+ * Each entry stores its action and the values it mentions rather than a
+ * finished sentence; the description is rendered from this template when
+ * the entry is returned to a client.
+ */
+public enum ActivityAction {
+    
+    /**
+     * Task created; "to" is the assignee
+     */
+    CREATED("Task created and assigned to %2$s"),
+    
+    /**
+     * Replacement task created by a reassignment; "from" and "to" are the old and new assignee
+     */
+    REASSIGNED("Task reassigned from %s to %s"),
+    
+    /**
+     * Task cancelled by a reassignment; "to" is the new assignee
+     */
+    CANCELLED("Task cancelled due to reassignment to %2$s"),
+    
+    /**
+     * Status changed; "from" and "to" are the old and new status
+     */
+    STATUS_UPDATED("Status changed from %s to %s"),
+    
+    /**
+     * Priority changed; "from" and "to" are the old and new priority
+     */
+    PRIORITY_UPDATED("Priority changed from %s to %s"),
+    
+    /**
+     * Comment added; "to" is the {@link #commentPreview start} of the comment text, the comment itself is kept once
+     */
+    COMMENT_ADDED("Comment added: \"%2$s\"") {
+        @Override
+        public String describe(String from, String to) {
+            // Entries written before previews were stored hold the whole text
+            return super.describe(from, commentPreview(to));
+        }
+    },
+    
+    /**
+     * ACTIVE task passed its due date
+     */
+    OVERDUE("Task passed its due date"),
+    
+    /**
+     * Priority raised because the due date is near; "from" and "to" are the old and new priority
+     */
+    ESCALATED("Priority raised from %s to %s as the due date nears");
+    
+    private static final int COMMENT_PREVIEW_LENGTH = 50;
+    
+    private final String template;
+    
+    ActivityAction(String template) {
+        this.template = template;
+    }
+    
+    /**
+     * @param text a comment's text, or null
+     * @return the start of the text as shown in a COMMENT_ADDED entry; unchanged when already a preview
+     */
+    public static String commentPreview(String text) {
+        return text != null && text.length() > COMMENT_PREVIEW_LENGTH
+                ? text.substring(0, COMMENT_PREVIEW_LENGTH) + "..." : text;
+    }
+    
+    /**
+     * @param from the value before the change, if the action has one
+     * @param to the value after the change, or the action's subject
+     * @return the human-readable description of an entry
+     */
+    public String describe(String from, String to) {
+        return String.format(template, from, to);
+    }
+}
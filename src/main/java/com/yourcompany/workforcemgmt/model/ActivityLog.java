@@ -5,47 +5,56 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
-
 /**
  * Entity representing an activity log entry for tracking task changes
  * 
  * This class captures all significant events that occur during a task's lifecycle
  * such as creation, status changes, reassignments, priority updates, etc.
+ * 
+ * Entries are kept compact: the ID is two longs, the time is a primitive
+ * (see {@link Timestamps}), and the description is not stored but rendered
+ * from the action and its values by the mapper. The owning task is implied
+ * by the history the entry sits in.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ActivityLog {
+public class ActivityLog implements Timestamped {
     
     /**
-     * Unique identifier for this activity log entry
+     * First 64 bits of the unique identifier for this activity log entry
      */
-    private String id;
+    private long idHigh;
     
     /**
-     * ID of the task this activity relates to
+     * Last 64 bits of the unique identifier for this activity log entry
      */
-    private String taskId;
+    private long idLow;
     
     /**
-     * ID of the user who performed this action
+     * ID of the user who performed this action, interned through {@link StaffIds}
      */
     private String userId;
     
     /**
-     * Type of action performed (e.g., CREATED, STATUS_UPDATED, REASSIGNED)
+     * Type of action performed
+     */
+    private ActivityAction action;
+    
+    /**
+     * Value before the change, for actions that have one
      */
-    private String action;
+    private String from;
     
     /**
-     * Detailed description of what happened
+     * Value after the change, or the subject of the action
      */
-    private String description;
+    private String to;
     
     /**
      * When this activity occurred
      */
-    private LocalDateTime timestamp;
+    @Builder.Default
+    private long timestamp = Timestamps.NONE;
 }
\ No newline at end of file
@@ -0,0 +1,371 @@
+package com.yourcompany.workforcemgmt.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Append-only, timestamp-ordered log of task history entries
+ *
+ * Replaces a plain ArrayList for activity history and comments so that
+ * reads never sort and never race with appends from other threads:
+ *
+ * - Appends are lock-free. A writer claims the next slot and its timestamp
+ *   in one CAS on the tail, so slot order and timestamp order always agree.
+ *   A timestamp that is not later than the previous entry's is bumped to
+ *   previous + 1us, which keeps timestamps strictly increasing and makes
+ *   "since" an exact, duplicate-free cursor.
+ * - Reads are wait-free. They see the prefix of slots that have been fully
+ *   written and never block on, or retry against, a writer.
+ * - Storage is a directory of chunks doubling in size (8, 16, 32, ...), so
+ *   growing never copies existing entries and an empty log costs no arrays.
+ * - The oldest entries can be {@link #spill spilled}: once a
+ *   {@link SpilledEntries} holds them, their slots are cleared and chunks
+ *   wholly below the spilled count are dropped. Positions do not change;
+ *   reads of spilled positions go to the spilled entries, which are
+ *   published before any slot is cleared.
+ *
+ * @param <E> the entry type
+ */
+public class AppendOnlyLog<E extends Timestamped> implements Iterable<E> {
+
+    private static final int FIRST_CHUNK_BITS = 3;
+    private static final Object[][] NO_CHUNKS = new Object[0][];
+    private static final Tail EMPTY = new Tail(0, Timestamps.NONE);
+    private static final Spill<?> NOT_SPILLED = new Spill<>(0, null);
+    private static final int SPILL_READ_BATCH = 256;
+
+    private static final VarHandle TAIL;
+    private static final VarHandle CHUNKS;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(AppendOnlyLog.class, "tail", Tail.class);
+            CHUNKS = lookup.findVarHandle(AppendOnlyLog.class, "chunks", Object[][].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Number of claimed slots and the timestamp of the last claimed one
+     */
+    private record Tail(int size, long last) {
+    }
+
+    /**
+     * Number of leading entries held outside the slots, and where
+     */
+    private record Spill<E extends Timestamped>(int count, SpilledEntries<E> entries) {
+    }
+
+    private volatile Tail tail = EMPTY;
+
+    // Published directories are never modified; growth swaps in a copy
+    private volatile Object[][] chunks = NO_CHUNKS;
+
+    // Lower bound on the readable prefix, so readers do not rescan from zero
+    private volatile int publishedHint;
+
+    @SuppressWarnings("unchecked")
+    private volatile Spill<E> spill = (Spill<E>) NOT_SPILLED;
+
+    public AppendOnlyLog() {
+    }
+
+    /**
+     * Create a log holding the given entries in timestamp order
+     */
+    public static <E extends Timestamped> AppendOnlyLog<E> copyOf(Collection<? extends E> entries) {
+        AppendOnlyLog<E> log = new AppendOnlyLog<>();
+        if (entries != null) {
+            entries.stream()
+                    .sorted(Comparator.comparingLong(Timestamped::getTimestamp))
+                    .forEach(log::append);
+        }
+        return log;
+    }
+
+    /**
+     * Append an entry, assigning it a timestamp later than every earlier entry
+     *
+     * The entry's own timestamp is used when it is already later than the
+     * last one; an unset timestamp is replaced with the current time.
+     *
+     * @param entry the entry to append; must not be shared with another log
+     */
+    public void append(E entry) {
+        long requested = entry.getTimestamp() != Timestamps.NONE ? entry.getTimestamp() : Timestamps.now();
+        Tail current;
+        Tail claimed;
+        do {
+            current = tail;
+            long stamp = requested > current.last() ? requested : current.last() + 1;
+            claimed = new Tail(current.size() + 1, stamp);
+        } while (!TAIL.compareAndSet(this, current, claimed));
+
+        // The entry is not visible to readers until its slot is released below
+        entry.setTimestamp(claimed.last());
+        int index = current.size();
+        SLOT.setRelease(chunkFor(index), offsetOf(index), entry);
+    }
+
+    /**
+     * @return number of entries visible to readers
+     */
+    public int size() {
+        return publishedSize();
+    }
+
+    public boolean isEmpty() {
+        return publishedSize() == 0;
+    }
+
+    /**
+     * @param index position in timestamp order
+     * @return the entry at that position
+     * @throws IndexOutOfBoundsException if no entry is visible at that position
+     */
+    public E get(int index) {
+        int size = publishedSize();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return entry(index);
+    }
+
+    /**
+     * Entries strictly after a timestamp, found by binary search
+     *
+     * @param since exclusive lower bound, or {@link Timestamps#NONE} to start at the first entry
+     * @param limit maximum number of entries to return
+     * @return up to limit entries in timestamp order
+     */
+    public List<E> since(long since, int limit) {
+        int size = publishedSize();
+        int from = since == Timestamps.NONE ? 0 : firstAfter(since, size);
+        int to = (int) Math.min(size, (long) from + limit);
+        List<E> page = new ArrayList<>(Math.max(0, to - from));
+        copy(from, to, page);
+        return page;
+    }
+
+    /**
+     * @return a point-in-time copy of all visible entries in timestamp order
+     */
+    public List<E> toList() {
+        return since(Timestamps.NONE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return a point-in-time copy of the entries held in the heap, that is all but the spilled ones
+     */
+    public List<E> resident() {
+        int size = publishedSize();
+        int from = Math.min(spill.count(), size);
+        List<E> entries = new ArrayList<>(size - from);
+        copy(from, size, entries);
+        return entries;
+    }
+
+    /**
+     * Move the oldest entries out of the heap
+     *
+     * The caller first stores them in the spilled entries, which must then
+     * serve every position below count. Spills of one log must not run
+     * concurrently; appends and reads may.
+     *
+     * @param count number of leading entries the spilled entries now hold; no more than are visible
+     * @param entries where those entries are read back from
+     */
+    public void spill(int count, SpilledEntries<E> entries) {
+        int from = spill.count();
+        if (count <= from) {
+            return;
+        }
+        if (count > publishedSize()) {
+            throw new IllegalArgumentException("Cannot spill " + count + " entries of " + publishedSize());
+        }
+        // Published before any slot is cleared, so a reader finding an empty slot finds the entry here
+        spill = new Spill<>(count, entries);
+        Object[][] directory = chunks;
+        for (int i = from; i < count; i++) {
+            SLOT.setRelease(directory[chunkIndexOf(i)], offsetOf(i), null);
+        }
+        int firstKept = chunkIndexOf(count);
+        while (true) {
+            directory = chunks;
+            Object[][] trimmed = directory.clone();
+            boolean dropped = false;
+            for (int chunk = 0; chunk < firstKept && chunk < trimmed.length; chunk++) {
+                dropped |= trimmed[chunk] != null;
+                trimmed[chunk] = null;
+            }
+            // An append growing the directory at the same time makes this retry
+            if (!dropped || CHUNKS.compareAndSet(this, directory, trimmed)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return number of leading entries spilled out of the heap
+     */
+    public int spilledCount() {
+        return spill.count();
+    }
+
+    /**
+     * @return where the spilled entries are held, or null if none have been spilled
+     */
+    public SpilledEntries<E> spilledEntries() {
+        return spill.entries();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        int size = publishedSize();
+        return new Iterator<>() {
+            private int next;
+            private List<E> batch = List.of();
+            private int batchFrom;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public E next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                if (next - batchFrom < batch.size()) {
+                    return batch.get(next++ - batchFrom);
+                }
+                E entry = slot(next);
+                if (entry == null) {
+                    // Spilled: read ahead rather than an entry at a time
+                    Spill<E> current = spill;
+                    batchFrom = next;
+                    batch = current.entries().read(next, Math.min(current.count(), next + SPILL_READ_BATCH));
+                    entry = batch.get(0);
+                }
+                next++;
+                return entry;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private int firstAfter(long since, int size) {
+        Spill<E> spilled = spill;
+        int low = Math.min(spilled.count(), size);
+        if (low > 0 && (low == size || entry(low).getTimestamp() > since)) {
+            return spilled.entries().firstAfter(since);
+        }
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entry(mid).getTimestamp() > since) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Length of the prefix of claimed slots whose entries have been written
+     *
+     * Slots are filled right after they are claimed, so the scan past the
+     * last known prefix is bounded by the number of in-flight appends. Any
+     * value stored in the hint was a valid prefix when computed and prefixes
+     * only grow, so racing hint updates can lose progress but never overshoot.
+     */
+    private int publishedSize() {
+        int claimed = tail.size();
+        // Spilled slots are empty, but were all written before being spilled
+        int size = Math.max(publishedHint, spill.count());
+        while (size < claimed && slot(size) != null) {
+            size++;
+        }
+        if (size != publishedHint) {
+            publishedHint = size;
+        }
+        return size;
+    }
+
+    /**
+     * Copy the visible entries at positions from to to, reading spilled ones back in runs
+     */
+    private void copy(int from, int to, List<E> into) {
+        int i = from;
+        while (i < to) {
+            E entry = slot(i);
+            if (entry != null) {
+                into.add(entry);
+                i++;
+                continue;
+            }
+            Spill<E> current = spill;
+            int end = Math.min(to, current.count());
+            into.addAll(current.entries().read(i, end));
+            i = end;
+        }
+    }
+
+    /**
+     * @return the visible entry at a position, spilled or not
+     */
+    private E entry(int index) {
+        E entry = slot(index);
+        return entry != null ? entry : spill.entries().read(index, index + 1).get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E slot(int index) {
+        Object[][] directory = chunks;
+        int chunk = chunkIndexOf(index);
+        if (chunk >= directory.length || directory[chunk] == null) {
+            return null;
+        }
+        return (E) SLOT.getAcquire(directory[chunk], offsetOf(index));
+    }
+
+    private Object[] chunkFor(int index) {
+        int chunk = chunkIndexOf(index);
+        while (true) {
+            Object[][] directory = chunks;
+            if (chunk < directory.length && directory[chunk] != null) {
+                return directory[chunk];
+            }
+            Object[][] grown = Arrays.copyOf(directory, Math.max(directory.length, chunk + 1));
+            grown[chunk] = new Object[1 << (chunk + FIRST_CHUNK_BITS)];
+            CHUNKS.compareAndSet(this, directory, grown);
+        }
+    }
+
+    private static int chunkIndexOf(int index) {
+        int position = index + (1 << FIRST_CHUNK_BITS);
+        return (31 - Integer.numberOfLeadingZeros(position)) - FIRST_CHUNK_BITS;
+    }
+
+    private static int offsetOf(int index) {
+        int position = index + (1 << FIRST_CHUNK_BITS);
+        return position - Integer.highestOneBit(position);
+    }
+}
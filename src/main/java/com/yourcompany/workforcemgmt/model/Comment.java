@@ -5,32 +5,33 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
-
 /**
  * Entity representing a user comment on a task
  * 
  * Comments allow team members to communicate about task progress,
  * share updates, and provide additional context.
+ * 
+ * Like {@link ActivityLog}, the ID is two longs, the time is a primitive
+ * and the owning task is implied by the list the comment sits in.
  */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class Comment {
+public class Comment implements Timestamped {
     
     /**
-     * Unique identifier for this comment
+     * First 64 bits of the unique identifier for this comment
      */
-    private String id;
+    private long idHigh;
     
     /**
-     * ID of the task this comment belongs to
+     * Last 64 bits of the unique identifier for this comment
      */
-    private String taskId;
+    private long idLow;
     
     /**
-     * ID of the user who wrote this comment
+     * ID of the user who wrote this comment, interned through {@link StaffIds}
      */
     private String userId;
     
@@ -42,5 +43,6 @@ public class Comment {
     /**
      * When this comment was created
      */
-    private LocalDateTime timestamp;
+    @Builder.Default
+    private long timestamp = Timestamps.NONE;
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.yourcompany.workforcemgmt.model;
+
+import java.util.List;
+
+/**
+ * The oldest entries of an {@link AppendOnlyLog}, moved out of the heap
+ *
+ * Holds the log's first entries by position. Implementations are safe for
+ * concurrent readers and must make entries readable before the log is told
+ * they were spilled.
+ *
+ * @param <E> the entry type
+ */
+public interface SpilledEntries<E extends Timestamped> {
+
+    /**
+     * @param from first position, inclusive
+     * @param to last position, exclusive; no further than the number of entries spilled
+     * @return the entries at those positions, read back in order
+     */
+    List<E> read(int from, int to);
+
+    /**
+     * @param timestamp exclusive lower bound
+     * @return position of the first spilled entry later than the timestamp, or the number spilled if there is none
+     */
+    int firstAfter(long timestamp);
+}
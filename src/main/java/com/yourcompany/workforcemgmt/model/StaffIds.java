@@ -0,0 +1,39 @@
+package com.yourcompany.workforcemgmt.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Canonical instances of staff and user IDs
+ *
+ * The same few thousand IDs are repeated on every task, history entry and
+ * comment, and each request or replayed record brings its own copy of the
+ * string. Interning them here as they enter the model keeps one copy per
+ * distinct ID, so each use costs only a reference. The pool only grows,
+ * which is fine for IDs drawn from a bounded staff list.
+ */
+public final class StaffIds {
+
+    private static final ConcurrentHashMap<String, String> POOL = new ConcurrentHashMap<>();
+
+    private StaffIds() {
+    }
+
+    /**
+     * @param id an ID, or null
+     * @return the canonical instance equal to id, or null
+     */
+    public static String intern(String id) {
+        if (id == null) {
+            return null;
+        }
+        String canonical = POOL.putIfAbsent(id, id);
+        return canonical != null ? canonical : id;
+    }
+
+    /**
+     * @return number of distinct IDs held
+     */
+    public static int size() {
+        return POOL.size();
+    }
+}
@@ -5,15 +5,15 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Entity representing a task in the workforce management system
  * 
  * A task is a single unit of work that can be assigned to an employee
  * and tracked through its lifecycle from creation to completion.
+ * 
+ * The ID is a {@link TaskId}, times are primitives (see {@link Timestamps})
+ * and staff IDs are interned, so a task costs little beyond its title,
+ * description and history. TaskMapper produces the readable form.
  */
 @Data
 @Builder
@@ -24,7 +24,7 @@ public class Task {
     /**
      * Unique identifier for this task
      */
-    private String id;
+    private TaskId id;
     
     /**
      * Title/name of the task
@@ -47,46 +47,58 @@ public class Task {
     private TaskPriority priority;
     
     /**
-     * ID of the staff member assigned to this task
+     * ID of the staff member assigned to this task, interned through {@link StaffIds}
      */
     private String assignedStaffId;
     
     /**
-     * When the task should start
+     * When the task should start, or {@link Timestamps#NONE}
      */
-    private LocalDateTime startDate;
+    @Builder.Default
+    private long startDate = Timestamps.NONE;
     
     /**
-     * When the task is due to be completed
+     * When the task is due to be completed, or {@link Timestamps#NONE}
      */
-    private LocalDateTime dueDate;
+    @Builder.Default
+    private long dueDate = Timestamps.NONE;
     
     /**
-     * When this task was created
+     * When this task was created, or {@link Timestamps#NONE}
      */
-    private LocalDateTime createdAt;
+    @Builder.Default
+    private long createdAt = Timestamps.NONE;
+    
+    /**
+     * When this task was last updated, or {@link Timestamps#NONE}
+     */
+    @Builder.Default
+    private long updatedAt = Timestamps.NONE;
     
     /**
-     * When this task was last updated
+     * Number of changes made to this task since it was created or loaded
+     * 
+     * Incremented as the last step of every change. The field is volatile,
+     * so a reader that sees a version also sees the changes it counts.
+     * Versions are not persisted and start again from 0 after a restart.
      */
-    private LocalDateTime updatedAt;
+    private volatile long version;
     
     /**
-     * ID of the user who created this task
+     * ID of the user who created this task, interned through {@link StaffIds}
      */
     private String createdBy;
     
     /**
      * Complete history of all activities performed on this task
-     * Automatically populated when activities occur
+     * Automatically populated when activities occur, kept in timestamp order
      */
     @Builder.Default
-    private List<ActivityLog> activityHistory = new ArrayList<>();
+    private AppendOnlyLog<ActivityLog> activityHistory = new AppendOnlyLog<>();
     
     /**
-     * All user comments added to this task
-     * Sorted chronologically when retrieved
+     * All user comments added to this task, kept in timestamp order
      */
     @Builder.Default
-    private List<Comment> comments = new ArrayList<>();
+    private AppendOnlyLog<Comment> comments = new AppendOnlyLog<>();
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.yourcompany.workforcemgmt.model;
+
+import java.util.UUID;
+
+/**
+ * 128-bit task identifier held as two longs
+ *
+ * Replaces the 36-character UUID string as the key of stored tasks: one
+ * instance is shared by the task, the store and every index entry, and
+ * comparing two IDs is two long comparisons. The text form is the usual
+ * UUID layout and is only produced for API responses and cursors.
+ *
+ * IDs are ordered as unsigned 128-bit numbers, which is the same order as
+ * their lowercase text form. New IDs come from IdGenerator and start with
+ * their creation time, so this is also creation order.
+ *
+ * @param high the first 64 bits
+ * @param low the last 64 bits
+ */
+public record TaskId(long high, long low) implements Comparable<TaskId> {
+
+    private static final int TEXT_LENGTH = 36;
+
+    /**
+     * Parse the text form of an ID
+     *
+     * @param text an ID in 8-4-4-4-12 hex form
+     * @return the ID, or null if the text is not a well-formed ID
+     */
+    public static TaskId tryParse(String text) {
+        if (text == null || text.length() != TEXT_LENGTH
+                || text.charAt(8) != '-' || text.charAt(13) != '-' || text.charAt(18) != '-' || text.charAt(23) != '-') {
+            return null;
+        }
+        long high = 0;
+        long low = 0;
+        int digits = 0;
+        for (int i = 0; i < TEXT_LENGTH; i++) {
+            char c = text.charAt(i);
+            if (c == '-') {
+                continue;
+            }
+            int value = Character.digit(c, 16);
+            if (value < 0) {
+                return null;
+            }
+            if (digits++ < 16) {
+                high = high << 4 | value;
+            } else {
+                low = low << 4 | value;
+            }
+        }
+        return new TaskId(high, low);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the text is not a well-formed ID
+     */
+    public static TaskId parse(String text) {
+        TaskId id = tryParse(text);
+        if (id == null) {
+            throw new IllegalArgumentException("Invalid task ID: " + text);
+        }
+        return id;
+    }
+
+    @Override
+    public int compareTo(TaskId other) {
+        int byHigh = Long.compareUnsigned(high, other.high);
+        return byHigh != 0 ? byHigh : Long.compareUnsigned(low, other.low);
+    }
+
+    @Override
+    public String toString() {
+        return new UUID(high, low).toString();
+    }
+}
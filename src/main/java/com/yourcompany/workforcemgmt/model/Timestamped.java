@@ -0,0 +1,14 @@
+package com.yourcompany.workforcemgmt.model;
+
+/**
+ * Entry that can be kept in an {@link AppendOnlyLog}
+ *
+ * Implemented by ActivityLog and Comment through their Lombok accessors.
+ * Times are in the primitive form described in {@link Timestamps}.
+ */
+public interface Timestamped {
+
+    long getTimestamp();
+
+    void setTimestamp(long timestamp);
+}
@@ -0,0 +1,86 @@
+package com.yourcompany.workforcemgmt.model;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Conversions between LocalDateTime and the primitive timestamps kept on tasks
+ *
+ * Entities store times as microseconds since 1970-01-01T00:00 in a long,
+ * with {@link #NONE} for "not set". Like the LocalDateTime fields they
+ * replace, the values are wall-clock times in the server's zone: times in
+ * requests carry no zone and are taken as they are, and {@link #now()}
+ * reads the clock in the system default zone, so the two always compare in
+ * the same zone. That is 8 bytes in place of a reference
+ * to a LocalDateTime and its LocalDate and LocalTime (about 72 bytes). The
+ * long covers roughly 290,000 years either side of 1970; sub-microsecond
+ * precision is dropped. Times are only turned back into LocalDateTime when
+ * a response is built.
+ */
+public final class Timestamps {
+
+    /**
+     * Marker for an unset time
+     */
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long MICROS_PER_DAY = 86_400L * MICROS_PER_SECOND;
+
+    private Timestamps() {
+    }
+
+    /**
+     * @return the current wall-clock time in the system default zone, as LocalDateTime.now() would give it
+     */
+    public static long now() {
+        Instant now = Instant.now();
+        long seconds = now.getEpochSecond() + ZoneId.systemDefault().getRules().getOffset(now).getTotalSeconds();
+        return seconds * MICROS_PER_SECOND + now.getNano() / 1_000;
+    }
+
+    /**
+     * @param time a time, or null
+     * @return the time in microseconds, or NONE for null
+     * @throws IllegalArgumentException if the time is too far from 1970 to represent
+     */
+    public static long of(LocalDateTime time) {
+        if (time == null) {
+            return NONE;
+        }
+        try {
+            return Math.addExact(Math.multiplyExact(time.toEpochSecond(ZoneOffset.UTC), MICROS_PER_SECOND),
+                    time.getNano() / 1_000);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Date out of range: " + time, e);
+        }
+    }
+
+    /**
+     * @return the time as a LocalDateTime, or null for NONE
+     */
+    public static LocalDateTime toDateTime(long micros) {
+        if (micros == NONE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND),
+                (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000, ZoneOffset.UTC);
+    }
+
+    /**
+     * @return the calendar day of the time, or null for NONE
+     */
+    public static LocalDate toDate(long micros) {
+        return micros == NONE ? null : LocalDate.ofEpochDay(Math.floorDiv(micros, MICROS_PER_DAY));
+    }
+
+    /**
+     * @return the time shifted by a number of days; NONE stays NONE
+     */
+    public static long plusDays(long micros, long days) {
+        return micros == NONE ? NONE : micros + days * MICROS_PER_DAY;
+    }
+}
@@ -0,0 +1,91 @@
+package com.yourcompany.workforcemgmt.search;
+
+import java.util.Arrays;
+
+/**
+ * Compressed list of the documents containing one term
+ *
+ * Each entry is the gap from the previous document number followed by the
+ * term's frequency in the document, both as variable-length integers of
+ * 7 bits per byte. Documents are numbered in the order they are indexed
+ * and only ever appended, so gaps are always positive and most entries
+ * take two bytes.
+ */
+final class PostingList {
+
+    private static final int INITIAL_BYTES = 8;
+
+    private byte[] bytes = new byte[INITIAL_BYTES];
+    private int length;
+    private int lastDoc = -1;
+    private int docFrequency;
+
+    /**
+     * Visitor for the entries of a list, in document order
+     */
+    @FunctionalInterface
+    interface Visitor {
+        void visit(int doc, int frequency);
+    }
+
+    /**
+     * @param doc document number, greater than any already in the list
+     * @param frequency number of times the term occurs in the document
+     */
+    void add(int doc, int frequency) {
+        if (length + 2 * 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        }
+        writeVarInt(doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        docFrequency++;
+    }
+
+    void forEach(Visitor visitor) {
+        int position = 0;
+        int doc = -1;
+        while (position < length) {
+            int gap = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                gap |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            int frequency = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = bytes[position++];
+                frequency |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    break;
+                }
+            }
+            doc += gap;
+            visitor.visit(doc, frequency);
+        }
+    }
+
+    /**
+     * @return number of documents in the list
+     */
+    int docFrequency() {
+        return docFrequency;
+    }
+
+    /**
+     * @return bytes allocated for the list
+     */
+    int capacity() {
+        return bytes.length;
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+}
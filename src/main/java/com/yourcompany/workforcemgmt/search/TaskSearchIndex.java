@@ -0,0 +1,427 @@
+package com.yourcompany.workforcemgmt.search;
+
+import com.yourcompany.workforcemgmt.model.AppendOnlyLog;
+import com.yourcompany.workforcemgmt.model.Comment;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.store.TaskStore;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * In-memory inverted index over task titles, descriptions and comments
+ *
+ * A task's title and description form one document and each of its
+ * comments forms another, all pointing back at the task. Documents are
+ * numbered as they are indexed and never change, so every
+ * {@link PostingList} is append-only and stays delta-compressed: a new
+ * comment is a new document rather than an edit of the task's postings.
+ * Title words count {@value #TITLE_WEIGHT} times.
+ *
+ * Queries are ranked with BM25. The scores of a task's documents are
+ * summed, and the top k tasks are kept in a bounded heap, so a query costs
+ * the length of its terms' postings plus O(matches log k). Words are
+ * letter-or-digit runs, lower-cased; a task matches if it contains any
+ * query word, and tasks containing more of them rank higher.
+ *
+ * {@link #index} is idempotent: it adds a task the index has not seen and
+ * any comments added since it was last called, so callers invoke it after
+ * every write, and a write that added no text only takes the read lock.
+ * {@link #remove} drops a task that left the store. Its documents stop
+ * counting towards the BM25 statistics at once but stay in the postings,
+ * no longer resolving to a task, until dead documents or slots make up a
+ * quarter of the index; then the live ones are renumbered and every posting
+ * list rewritten, so memory follows the tasks held rather than every task
+ * ever indexed. The index is built from
+ * the store on the first search rather than at startup, so a restart from
+ * a snapshot does not read every task's text until search is used. Writes
+ * take an exclusive lock; searches share a read lock.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final int TITLE_WEIGHT = 2;
+    private static final int MAX_WORD_LENGTH = 64;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int COMPACT_DEAD_FRACTION = 4;
+
+    // BM25 term-frequency saturation and document-length normalisation
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final TaskStore taskStore;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> terms = new HashMap<>();
+
+    // Tasks by slot, with the number of their comments already indexed and their documents' count and length
+    private final Map<TaskId, Integer> slots = new HashMap<>();
+    private Task[] slotTasks = new Task[INITIAL_CAPACITY];
+    private int[] slotComments = new int[INITIAL_CAPACITY];
+    private int[] slotDocs = new int[INITIAL_CAPACITY];
+    private long[] slotLengths = new long[INITIAL_CAPACITY];
+    private int slotCount;
+    private int deadSlots;
+
+    // Documents by number: owning task slot and length in words
+    private int[] docSlots = new int[INITIAL_CAPACITY];
+    private int[] docLengths = new int[INITIAL_CAPACITY];
+    private int docCount;
+
+    // Documents of tasks still indexed, which the BM25 statistics are taken over
+    private int liveDocs;
+    private long liveLength;
+
+    private boolean built;
+
+    public TaskSearchIndex(TaskStore taskStore) {
+        this.taskStore = taskStore;
+    }
+
+    /**
+     * Bring the index up to date with a task's text
+     *
+     * Call after storing a task or appending a comment to it. Calls made
+     * before the first search do nothing, as the build reads the store.
+     *
+     * @param task the stored task
+     */
+    public void index(Task task) {
+        lock.readLock().lock();
+        try {
+            if (!built || isIndexed(task)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            if (built) {
+                add(task);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stop returning a task that is no longer held in the store
+     *
+     * @param task the task that left the store
+     */
+    public void remove(Task task) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(task.getId());
+            if (slot == null) {
+                return;
+            }
+            slotTasks[slot] = null;
+            liveDocs -= slotDocs[slot];
+            liveLength -= slotLengths[slot];
+            deadSlots++;
+            if ((docCount - liveDocs) * COMPACT_DEAD_FRACTION > docCount
+                    || deadSlots * COMPACT_DEAD_FRACTION > slotCount) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find the tasks best matching a query
+     *
+     * @param query free text; only its words are used
+     * @param filter condition a task must meet to be returned, checked against its current state
+     * @param limit maximum number of tasks to return
+     * @return matching tasks, best first; equal scores put newer tasks first
+     */
+    public List<Task> search(String query, Predicate<Task> filter, int limit) {
+        Set<String> words = new LinkedHashSet<>();
+        tokenize(query, words::add);
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        ensureBuilt();
+
+        lock.readLock().lock();
+        try {
+            Scores scores = new Scores(slotCount);
+            float averageLength = liveDocs > 0 ? (float) liveLength / liveDocs : 1f;
+            for (String word : words) {
+                PostingList postings = terms.get(word);
+                if (postings == null) {
+                    continue;
+                }
+                int df = postings.docFrequency();
+                float idf = (float) Math.log(1 + Math.max(0, liveDocs - df + 0.5) / (df + 0.5));
+                postings.forEach((doc, frequency) -> {
+                    float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    scores.add(docSlots[doc], idf * frequency * (K1 + 1) / (frequency + norm));
+                });
+            }
+            return scores.top(filter, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of documents held in the postings, including those of removed tasks not yet compacted away
+     */
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of distinct words indexed
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureBuilt() {
+        lock.writeLock().lock();
+        try {
+            if (!built) {
+                taskStore.findAll().forEach(this::add);
+                built = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return whether the task and all its comments are already indexed; called with the lock held
+     */
+    private boolean isIndexed(Task task) {
+        Integer slot = slots.get(task.getId());
+        AppendOnlyLog<Comment> comments = task.getComments();
+        return slot != null && slotComments[slot] >= (comments != null ? comments.size() : 0);
+    }
+
+    private void add(Task task) {
+        Integer slot = slots.get(task.getId());
+        if (slot == null) {
+            slot = newSlot(task);
+            addDocument(slot, task.getTitle(), task.getDescription());
+        }
+        AppendOnlyLog<Comment> comments = task.getComments();
+        int size = comments != null ? comments.size() : 0;
+        for (int i = slotComments[slot]; i < size; i++) {
+            addDocument(slot, null, comments.get(i).getText());
+        }
+        slotComments[slot] = Math.max(slotComments[slot], size);
+    }
+
+    private int newSlot(Task task) {
+        if (slotCount == slotTasks.length) {
+            resizeSlots(slotCount * 2);
+        }
+        int slot = slotCount++;
+        slotTasks[slot] = task;
+        slots.put(task.getId(), slot);
+        return slot;
+    }
+
+    private void addDocument(int slot, String title, String body) {
+        Map<String, int[]> frequencies = new HashMap<>();
+        int[] length = new int[1];
+        tokenize(title, word -> {
+            frequencies.computeIfAbsent(word, w -> new int[1])[0] += TITLE_WEIGHT;
+            length[0]++;
+        });
+        tokenize(body, word -> {
+            frequencies.computeIfAbsent(word, w -> new int[1])[0]++;
+            length[0]++;
+        });
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        if (docCount == docSlots.length) {
+            resizeDocs(docCount * 2);
+        }
+        int doc = docCount++;
+        docSlots[doc] = slot;
+        docLengths[doc] = length[0];
+        slotDocs[slot]++;
+        slotLengths[slot] += length[0];
+        liveDocs++;
+        liveLength += length[0];
+        frequencies.forEach((word, frequency) ->
+                terms.computeIfAbsent(word, w -> new PostingList()).add(doc, frequency[0]));
+    }
+
+    /**
+     * Drop removed tasks' slots and documents, renumbering the rest in order; called with the write lock held
+     *
+     * Renumbering keeps the relative order of documents, so each posting
+     * list is rewritten in one pass and stays ascending.
+     */
+    private void compact() {
+        int[] slotMap = new int[slotCount];
+        int keptSlots = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotTasks[slot] == null) {
+                slotMap[slot] = -1;
+                continue;
+            }
+            slotMap[slot] = keptSlots;
+            slotTasks[keptSlots] = slotTasks[slot];
+            slotComments[keptSlots] = slotComments[slot];
+            slotDocs[keptSlots] = slotDocs[slot];
+            slotLengths[keptSlots] = slotLengths[slot];
+            slots.put(slotTasks[keptSlots].getId(), keptSlots);
+            keptSlots++;
+        }
+        Arrays.fill(slotTasks, keptSlots, slotCount, null);
+        slotCount = keptSlots;
+        deadSlots = 0;
+
+        int[] docMap = new int[docCount];
+        int keptDocs = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            int slot = slotMap[docSlots[doc]];
+            if (slot < 0) {
+                docMap[doc] = -1;
+                continue;
+            }
+            docMap[doc] = keptDocs;
+            docSlots[keptDocs] = slot;
+            docLengths[keptDocs] = docLengths[doc];
+            keptDocs++;
+        }
+        docCount = keptDocs;
+
+        terms.entrySet().removeIf(term -> {
+            PostingList kept = new PostingList();
+            term.getValue().forEach((doc, frequency) -> {
+                if (docMap[doc] >= 0) {
+                    kept.add(docMap[doc], frequency);
+                }
+            });
+            term.setValue(kept);
+            return kept.docFrequency() == 0;
+        });
+
+        if (slotTasks.length > INITIAL_CAPACITY && slotCount * 4 < slotTasks.length) {
+            resizeSlots(Math.max(INITIAL_CAPACITY, slotCount * 2));
+        }
+        if (docSlots.length > INITIAL_CAPACITY && docCount * 4 < docSlots.length) {
+            resizeDocs(Math.max(INITIAL_CAPACITY, docCount * 2));
+        }
+    }
+
+    private void resizeSlots(int capacity) {
+        slotTasks = Arrays.copyOf(slotTasks, capacity);
+        slotComments = Arrays.copyOf(slotComments, capacity);
+        slotDocs = Arrays.copyOf(slotDocs, capacity);
+        slotLengths = Arrays.copyOf(slotLengths, capacity);
+    }
+
+    private void resizeDocs(int capacity) {
+        docSlots = Arrays.copyOf(docSlots, capacity);
+        docLengths = Arrays.copyOf(docLengths, capacity);
+    }
+
+    /**
+     * Split text into lower-cased runs of letters and digits, skipping overlong ones
+     */
+    static void tokenize(String text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start <= MAX_WORD_LENGTH) {
+                    sink.accept(text.substring(start, i).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+    }
+
+    /**
+     * Per-task score accumulator for one query, remembering which tasks were touched
+     *
+     * Touched slots are tracked apart from their scores, as a word found in
+     * most live documents scores zero and must not list its tasks again.
+     */
+    private final class Scores {
+
+        private final float[] scores;
+        private final BitSet seen;
+        private int[] touched = new int[16];
+        private int touchedCount;
+
+        Scores(int slots) {
+            this.scores = new float[slots];
+            this.seen = new BitSet(slots);
+        }
+
+        void add(int slot, float score) {
+            if (!seen.get(slot)) {
+                seen.set(slot);
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = slot;
+            }
+            scores[slot] += score;
+        }
+
+        List<Task> top(Predicate<Task> filter, int limit) {
+            Comparator<Integer> worstFirst = Comparator.<Integer>comparingDouble(slot -> scores[slot])
+                    .thenComparing(slot -> slotTasks[slot].getId());
+            PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, touchedCount) + 1, worstFirst);
+            for (int i = 0; i < touchedCount; i++) {
+                int slot = touched[i];
+                if (slotTasks[slot] == null || !filter.test(slotTasks[slot])) {
+                    continue;
+                }
+                best.offer(slot);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            List<Task> results = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                results.add(slotTasks[best.poll()]);
+            }
+            Collections.reverse(results);
+            return results;
+        }
+    }
+}
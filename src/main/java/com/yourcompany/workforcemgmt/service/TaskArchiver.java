@@ -0,0 +1,94 @@
+package com.yourcompany.workforcemgmt.service;
+
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import com.yourcompany.workforcemgmt.search.TaskSearchIndex;
+import com.yourcompany.workforcemgmt.store.TaskArchiveProperties;
+import com.yourcompany.workforcemgmt.store.TaskStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically moves finished tasks that have not changed for a while to the store's archive
+ *
+ * Each sweep hands the store a cut-off of now minus the configured age,
+ * and for every task archived drops it from search and bumps the versions
+ * of the views that listed it. Archived tasks can still be fetched by ID;
+ * a write to one brings it back into memory, and the service re-indexes it
+ * then. Only finished statuses may be archived, so the deadline timers and
+ * staff loads, which follow ACTIVE tasks, never refer to an archived task.
+ */
+@Component
+public class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskStore taskStore;
+    private final TaskArchiveProperties properties;
+    private final TaskSearchIndex searchIndex;
+    private final ViewVersions viewVersions;
+    private final ScheduledExecutorService sweeper;
+
+    public TaskArchiver(TaskStore taskStore, TaskArchiveProperties properties, TaskSearchIndex searchIndex,
+                        ViewVersions viewVersions) {
+        if (properties.getStatuses().contains(TaskStatus.ACTIVE)) {
+            throw new IllegalArgumentException("task-archive.statuses cannot include ACTIVE");
+        }
+        if (properties.getSweepIntervalMillis() < 1) {
+            throw new IllegalArgumentException("task-archive.sweep-interval-millis must be positive");
+        }
+        this.taskStore = taskStore;
+        this.properties = properties;
+        this.searchIndex = searchIndex;
+        this.viewVersions = viewVersions;
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    void start() {
+        if (properties.isEnabled()) {
+            sweeper.scheduleWithFixedDelay(this::sweep, properties.getSweepIntervalMillis(),
+                    properties.getSweepIntervalMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Archive every task old enough now
+     *
+     * @return number of tasks archived
+     */
+    public int sweep() {
+        long start = System.nanoTime();
+        try {
+            long cutoff = Timestamps.now() - properties.getMinAge().toNanos() / 1000;
+            int archived = taskStore.archive(cutoff, properties.getStatuses(), task -> {
+                searchIndex.remove(task);
+                viewVersions.changed(task);
+            });
+            if (archived > 0) {
+                log.info("event=TASKS_ARCHIVED count={} ms={}", archived,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+            return archived;
+        } catch (RuntimeException e) {
+            log.warn("event=ARCHIVE_FAILED", e);
+            return 0;
+        }
+    }
+}
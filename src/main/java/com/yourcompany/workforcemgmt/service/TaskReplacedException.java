@@ -0,0 +1,13 @@
+package com.yourcompany.workforcemgmt.service;
+
+/**
+ * Thrown when reassigning or changing the status of a task that a reassignment has already cancelled and replaced
+ */
+public class TaskReplacedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TaskReplacedException(String taskId) {
+        super("Task " + taskId + " was cancelled by a reassignment and has been replaced");
+    }
+}
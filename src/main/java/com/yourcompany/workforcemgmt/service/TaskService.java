@@ -1,36 +1,147 @@
 package com.yourcompany.workforcemgmt.service;
 
+import com.yourcompany.workforcemgmt.assignment.StaffLoadBalancer;
+import com.yourcompany.workforcemgmt.deadlines.DeadlineScheduler;
 import com.yourcompany.workforcemgmt.dto.*;
+import com.yourcompany.workforcemgmt.events.StaffEventFeed;
 import com.yourcompany.workforcemgmt.mapper.TaskMapper;
+import com.yourcompany.workforcemgmt.metrics.Histogram;
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
 import com.yourcompany.workforcemgmt.model.*;
+import com.yourcompany.workforcemgmt.search.TaskSearchIndex;
+import com.yourcompany.workforcemgmt.store.TaskCursor;
+import com.yourcompany.workforcemgmt.store.TaskStore;
+import com.yourcompany.workforcemgmt.store.WorkloadCounts;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Service class containing business logic for task management operations
  * 
  * This service handles all task-related operations including creation, assignment,
- * priority management, commenting, and activity tracking. Uses in-memory storage
- * with HashMap collections as specified in the requirements.
+ * priority management, commenting, and activity tracking. Tasks are kept in a
+ * {@link TaskStore}, which indexes them by staff, priority and status so the
+ * filtered views only read matching rows. Their text is kept in a
+ * {@link TaskSearchIndex}, updated by every write that adds text, and every
+ * change is announced to the assignee's {@link StaffEventFeed} subscribers.
+ * Each task carries a version and each list view a {@link ViewVersions}
+ * counter, which the controller serves as ETags. Pages of the staff,
+ * priority and date-range views are kept in a {@link ViewCache} while
+ * their view's version is unchanged. The {@link DeadlineScheduler} follows
+ * the due dates of ACTIVE tasks and calls back to mark them overdue, or
+ * escalate them as the date nears. Automatic assignment asks the
+ * {@link StaffLoadBalancer} for the least-loaded staff member.
  */
 @Service
 public class TaskService {
     
-    // In-memory storage using HashMap collections
-    private final Map<String, Task> tasks = new HashMap<>();
-    private final Map<String, Staff> staff = new HashMap<>();
+    // Task storage with secondary indexes; staff is a small concurrent lookup table
+    private final TaskStore taskStore;
+    private final Map<String, Staff> staff = new ConcurrentHashMap<>();
     private final TaskMapper taskMapper;
+    private final IdGenerator idGenerator;
+    private final TaskSearchIndex searchIndex;
+    private final StaffEventFeed eventFeed;
+    private final ViewVersions viewVersions;
+    private final ViewCache viewCache;
+    private final DeadlineScheduler deadlines;
+    private final StaffLoadBalancer staffLoads;
+    
+    // Per-method latency histograms, looked up once so recording allocates nothing
+    private final Histogram createTaskLatency;
+    private final Histogram getAllTasksLatency;
+    private final Histogram getTaskByIdLatency;
+    private final Histogram getActivityHistoryLatency;
+    private final Histogram getTasksByStaffIdLatency;
+    private final Histogram getTasksByDateRangeLatency;
+    private final Histogram assignTaskByRefLatency;
+    private final Histogram updateTaskPriorityLatency;
+    private final Histogram getTasksByPriorityLatency;
+    private final Histogram addCommentToTaskLatency;
+    private final Histogram updateTaskStatusLatency;
+    private final Histogram createTasksLatency;
+    private final Histogram updateTaskStatusesLatency;
+    private final Histogram assignTasksLatency;
+    private final Histogram searchTasksLatency;
+    private final Histogram getWorkloadStatsLatency;
+    private final Histogram historyLength;
+    
+    // Upper bound on a single page so one request cannot ask for the whole store
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 100;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_BATCH_SIZE = 10_000;
+    private static final String UNKNOWN_DEPARTMENT = "Unknown";
+    private static final String DEADLINE_USER = "system";
     
     /**
      * Initialize the service with sample staff data for testing
      */
-    public TaskService(TaskMapper taskMapper) {
+    public TaskService(TaskStore taskStore, TaskMapper taskMapper, IdGenerator idGenerator,
+                       TaskSearchIndex searchIndex, StaffEventFeed eventFeed, ViewVersions viewVersions,
+                       ViewCache viewCache, DeadlineScheduler deadlines, StaffLoadBalancer staffLoads,
+                       MetricsRegistry metrics) {
+        this.taskStore = taskStore;
         this.taskMapper = taskMapper;
+        this.idGenerator = idGenerator;
+        this.searchIndex = searchIndex;
+        this.eventFeed = eventFeed;
+        this.viewVersions = viewVersions;
+        this.viewCache = viewCache;
+        this.deadlines = deadlines;
+        this.staffLoads = staffLoads;
+        this.createTaskLatency = serviceLatency(metrics, "createTask");
+        this.getAllTasksLatency = serviceLatency(metrics, "getAllTasks");
+        this.getTaskByIdLatency = serviceLatency(metrics, "getTaskById");
+        this.getActivityHistoryLatency = serviceLatency(metrics, "getActivityHistory");
+        this.getTasksByStaffIdLatency = serviceLatency(metrics, "getTasksByStaffId");
+        this.getTasksByDateRangeLatency = serviceLatency(metrics, "getTasksByDateRange");
+        this.assignTaskByRefLatency = serviceLatency(metrics, "assignTaskByRef");
+        this.updateTaskPriorityLatency = serviceLatency(metrics, "updateTaskPriority");
+        this.getTasksByPriorityLatency = serviceLatency(metrics, "getTasksByPriority");
+        this.addCommentToTaskLatency = serviceLatency(metrics, "addCommentToTask");
+        this.updateTaskStatusLatency = serviceLatency(metrics, "updateTaskStatus");
+        this.createTasksLatency = serviceLatency(metrics, "createTasks");
+        this.updateTaskStatusesLatency = serviceLatency(metrics, "updateTaskStatuses");
+        this.assignTasksLatency = serviceLatency(metrics, "assignTasks");
+        this.searchTasksLatency = serviceLatency(metrics, "searchTasks");
+        this.getWorkloadStatsLatency = serviceLatency(metrics, "getWorkloadStats");
+        this.historyLength = metrics.distribution("workforce_task_history_length",
+                "Activity history length of a task, observed each time an entry is appended", "store", "tasks");
+        registerStoreGauges(metrics);
         initializeSampleData();
+        staffLoads.start(staff.values(), staffId -> taskStore.countByStaff(staffId, TaskStatus.ACTIVE));
+        deadlines.start(taskStore.findByStatus(TaskStatus.ACTIVE, null), this::deadlinesReached);
+    }
+    
+    private static Histogram serviceLatency(MetricsRegistry metrics, String method) {
+        return metrics.latency("workforce_service_duration_seconds", "TaskService method latency", "method", method);
+    }
+    
+    /**
+     * Expose store sizes as gauges; values are read from counters at scrape time
+     */
+    private void registerStoreGauges(MetricsRegistry metrics) {
+        metrics.gauge("workforce_tasks", "Number of stored tasks by status", "status", () -> {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            taskStore.countByStatus().forEach((status, count) -> counts.put(status.name(), count));
+            return counts;
+        });
+        metrics.gauge("workforce_task_index_entries", "Number of entries in each task index", "index",
+                taskStore::indexSizes);
+        metrics.gauge("workforce_search_terms", "Number of distinct words in the search index", null,
+                () -> MetricsRegistry.single(searchIndex.termCount()));
+        metrics.gauge("workforce_search_documents", "Documents in the search index, removed tasks' until compacted", null,
+                () -> MetricsRegistry.single(searchIndex.documentCount()));
+        metrics.gauge("workforce_staff", "Number of known staff members", null,
+                () -> MetricsRegistry.single(staff.size()));
     }
     
     /**
@@ -72,33 +183,25 @@ public class TaskService {
      * @param request the task creation request
      * @param createdBy the user creating the task
      * @return the created task as DTO
+     * @throws IllegalArgumentException if automatic assignment finds no matching staff member
      */
     public TaskDto createTask(CreateTaskRequest request, String createdBy) {
-        String taskId = UUID.randomUUID().toString();
-        LocalDateTime now = LocalDateTime.now();
-        
-        Task task = Task.builder()
-                .id(taskId)
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .status(TaskStatus.ACTIVE)
-                .priority(request.getPriority() != null ? request.getPriority() : TaskPriority.MEDIUM)
-                .assignedStaffId(request.getAssignedStaffId())
-                .startDate(request.getStartDate())
-                .dueDate(request.getDueDate())
-                .createdAt(now)
-                .updatedAt(now)
-                .createdBy(createdBy)
-                .activityHistory(new ArrayList<>())
-                .comments(new ArrayList<>())
-                .build();
-        
-        // Add creation activity log
-        addActivityLog(task, createdBy, "CREATED", 
-                "Task created and assigned to " + request.getAssignedStaffId());
-        
-        tasks.put(taskId, task);
-        return taskMapper.taskToTaskDto(task);
+        long start = System.nanoTime();
+        String picked = null;
+        try {
+            picked = pickAssignee(request.getAutoAssign(), request.getAssignedStaffId(), request.getDepartment(),
+                    request.getRole(), null);
+            Task task = newTask(request, picked != null ? picked : request.getAssignedStaffId(), createdBy,
+                    Timestamps.now());
+            taskStore.save(task);
+            changed(task, ActivityAction.CREATED);
+            return taskMapper.taskToTaskDto(task);
+        } finally {
+            if (picked != null) {
+                staffLoads.release(picked);
+            }
+            createTaskLatency.recordSince(start);
+        }
     }
     
     /**
@@ -107,30 +210,112 @@ public class TaskService {
      * @return list of active and completed tasks
      */
     public List<TaskDto> getAllTasks() {
-        return tasks.values().stream()
-                .filter(task -> task.getStatus() != TaskStatus.CANCELLED) // Bug fix: exclude cancelled tasks
-                .map(taskMapper::taskToTaskDto)
-                .collect(Collectors.toList());
+        long start = System.nanoTime();
+        try {
+            return openTasks(null).map(taskMapper::taskToTaskDto).collect(Collectors.toList());
+        } finally {
+            getAllTasksLatency.recordSince(start);
+        }
     }
     
     /**
-     * Get a specific task by its ID with complete history
+     * Get one page of all non-cancelled tasks, ordered by task ID
+     * 
+     * @param after cursor returned with the previous page, or null for the first page
+     * @param limit maximum number of tasks to return, or null for no limit
+     * @param fields comma-separated summary columns to include, or null for all
+     * @return the page of task summaries and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor, limit or fields are invalid
+     */
+    public TaskPage getAllTasks(String after, Integer limit, String fields) {
+        long start = System.nanoTime();
+        try {
+            return page(openTasks(TaskCursor.decode(after)), limit, TaskService::idPosition, fields);
+        } finally {
+            getAllTasksLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Lazily stream all non-cancelled tasks, ordered by task ID
+     * 
+     * @param after cursor to resume after, or null to start from the beginning
+     * @param fields comma-separated summary columns to include, or null for all
+     * @return stream of task summaries, evaluated as the caller consumes it
+     * @throws IllegalArgumentException if the cursor or fields are invalid
+     */
+    public Stream<TaskSummaryDto> streamAllTasks(String after, String fields) {
+        Function<Task, TaskSummaryDto> projection = taskMapper.summaryProjection(fields);
+        return openTasks(TaskCursor.decode(after)).map(projection);
+    }
+    
+    private Stream<Task> openTasks(TaskCursor after) {
+        // Bug fix: exclude cancelled tasks by reading only the non-cancelled index
+        return taskStore.findOpen(after);
+    }
+    
+    /**
+     * Get a specific task by its ID with its recent history
      * 
      * @param id the task ID
-     * @return the task with full activity history and comments
+     * @return the task with the activity history and comments held in memory
      * @throws RuntimeException if task not found
      */
     public TaskDto getTaskById(String id) {
-        Task task = tasks.get(id);
-        if (task == null) {
-            throw new RuntimeException("Task not found with ID: " + id);
+        return getTaskById(id, false);
+    }
+    
+    /**
+     * Get a specific task by its ID
+     * 
+     * @param id the task ID
+     * @param fullHistory whether to read back history entries and comments spilled to disk
+     * @return the task with its activity history and comments, all of them if fullHistory is set
+     * @throws RuntimeException if task not found
+     */
+    public TaskDto getTaskById(String id, boolean fullHistory) {
+        long start = System.nanoTime();
+        try {
+            Task task = taskStore.findById(id);
+            if (task == null) {
+                throw new RuntimeException("Task not found with ID: " + id);
+            }
+        
+            // Activity history and comments are append-ordered by timestamp, so no sorting is needed
+            return taskMapper.taskToTaskDto(task, fullHistory);
+        } finally {
+            getTaskByIdLatency.recordSince(start);
         }
+    }
+    
+    /**
+     * Get a page of a task's activity history in chronological order
+     * 
+     * @param id the task ID
+     * @param since only return entries after this timestamp, or null to start at the beginning
+     * @param limit maximum number of entries to return, or null for the default page size
+     * @return the matching activity log entries
+     * @throws IllegalArgumentException if the limit is invalid
+     * @throws RuntimeException if task not found
+     */
+    public List<ActivityLogDto> getActivityHistory(String id, LocalDateTime since, Integer limit) {
+        long start = System.nanoTime();
+        try {
+            int pageSize = limit != null ? limit : DEFAULT_HISTORY_PAGE_SIZE;
+            if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+            }
         
-        // Sort activity history and comments chronologically
-        task.getActivityHistory().sort(Comparator.comparing(ActivityLog::getTimestamp));
-        task.getComments().sort(Comparator.comparing(Comment::getTimestamp));
+            Task task = taskStore.findById(id);
+            if (task == null) {
+                throw new RuntimeException("Task not found with ID: " + id);
+            }
         
-        return taskMapper.taskToTaskDto(task);
+            return taskMapper.activityLogsToDtos(task.getId().toString(),
+                    task.getActivityHistory().since(Timestamps.of(since), pageSize));
+        } finally {
+            getActivityHistoryLatency.recordSince(start);
+        }
     }
     
     /**
@@ -140,11 +325,52 @@ public class TaskService {
      * @return list of tasks assigned to the staff member
      */
     public List<TaskDto> getTasksByStaffId(String staffId) {
-        return tasks.values().stream()
-                .filter(task -> staffId.equals(task.getAssignedStaffId()))
-                .filter(task -> task.getStatus() != TaskStatus.CANCELLED) // Bug fix: exclude cancelled tasks
-                .map(taskMapper::taskToTaskDto)
-                .collect(Collectors.toList());
+        long start = System.nanoTime();
+        try {
+            return staffTasks(staffId, null).map(taskMapper::taskToTaskDto).collect(Collectors.toList());
+        } finally {
+            getTasksByStaffIdLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Get one page of the tasks assigned to a staff member, ordered by task ID
+     * 
+     * @param staffId the staff member ID
+     * @param after cursor returned with the previous page, or null for the first page
+     * @param limit maximum number of tasks to return, or null for no limit
+     * @param fields comma-separated summary columns to include, or null for all
+     * @return the page of task summaries and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor, limit or fields are invalid
+     */
+    public TaskPage getTasksByStaffId(String staffId, String after, Integer limit, String fields) {
+        long start = System.nanoTime();
+        try {
+            return viewCache.get(new ViewCache.Key("staff", staffId, null, after, limit, fields),
+                    viewVersions.staff(staffId),
+                    () -> page(staffTasks(staffId, TaskCursor.decode(after)), limit, TaskService::idPosition, fields));
+        } finally {
+            getTasksByStaffIdLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Lazily stream the tasks assigned to a staff member, ordered by task ID
+     * 
+     * @param staffId the staff member ID
+     * @param after cursor to resume after, or null to start from the beginning
+     * @param fields comma-separated summary columns to include, or null for all
+     * @return stream of task summaries, evaluated as the caller consumes it
+     * @throws IllegalArgumentException if the cursor or fields are invalid
+     */
+    public Stream<TaskSummaryDto> streamTasksByStaffId(String staffId, String after, String fields) {
+        Function<Task, TaskSummaryDto> projection = taskMapper.summaryProjection(fields);
+        return staffTasks(staffId, TaskCursor.decode(after)).map(projection);
+    }
+    
+    private Stream<Task> staffTasks(String staffId, TaskCursor after) {
+        return taskStore.findByAssignedStaffId(staffId, after)
+                .filter(task -> task.getStatus() != TaskStatus.CANCELLED); // Bug fix: exclude cancelled tasks
     }
     
     /**
@@ -161,21 +387,62 @@ public class TaskService {
      * @return list of relevant tasks for the date range
      */
     public List<TaskDto> getTasksByDateRange(LocalDate startDate, LocalDate endDate) {
-        return tasks.values().stream()
-                .filter(task -> task.getStatus() != TaskStatus.CANCELLED) // Exclude cancelled tasks
-                .filter(task -> {
-                    LocalDate taskStartDate = task.getStartDate().toLocalDate();
-                    
-                    // Return tasks that:
-                    // 1. Started within the date range, OR
-                    // 2. Started before the range but are still active (not completed)
-                    return (taskStartDate.isAfter(startDate.minusDays(1)) && 
-                            taskStartDate.isBefore(endDate.plusDays(1))) ||
-                           (taskStartDate.isBefore(startDate) && 
-                            task.getStatus() == TaskStatus.ACTIVE);
-                })
-                .map(taskMapper::taskToTaskDto)
-                .collect(Collectors.toList());
+        long start = System.nanoTime();
+        try {
+            return dateRangeTasks(startDate, endDate, null).map(taskMapper::taskToTaskDto).collect(Collectors.toList());
+        } finally {
+            getTasksByDateRangeLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Get one page of the smart daily view, ordered by start day then task ID
+     * 
+     * @param startDate start of the date range
+     * @param endDate end of the date range
+     * @param after cursor returned with the previous page, or null for the first page
+     * @param limit maximum number of tasks to return, or null for no limit
+     * @param fields comma-separated summary columns to include, or null for all
+     * @return the page of task summaries and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor, limit or fields are invalid
+     */
+    public TaskPage getTasksByDateRange(LocalDate startDate, LocalDate endDate, String after, Integer limit,
+                                        String fields) {
+        long start = System.nanoTime();
+        try {
+            return viewCache.get(new ViewCache.Key("dateRange", startDate, endDate, after, limit, fields),
+                    viewVersions.dateRange(endDate),
+                    () -> page(dateRangeTasks(startDate, endDate, decodeDayCursor(after)), limit,
+                            TaskService::dayPosition, fields));
+        } finally {
+            getTasksByDateRangeLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Lazily stream the smart daily view, ordered by start day then task ID
+     * 
+     * @param startDate start of the date range
+     * @param endDate end of the date range
+     * @param after cursor to resume after, or null to start from the beginning
+     * @param fields comma-separated summary columns to include, or null for all
+     * @return stream of task summaries, evaluated as the caller consumes it
+     * @throws IllegalArgumentException if the cursor or fields are invalid
+     */
+    public Stream<TaskSummaryDto> streamTasksByDateRange(LocalDate startDate, LocalDate endDate, String after,
+                                                         String fields) {
+        Function<Task, TaskSummaryDto> projection = taskMapper.summaryProjection(fields);
+        return dateRangeTasks(startDate, endDate, decodeDayCursor(after)).map(projection);
+    }
+    
+    private Stream<Task> dateRangeTasks(LocalDate startDate, LocalDate endDate, TaskCursor after) {
+        // The two halves come from separate start-date indexes and never overlap.
+        // Every task in the first half starts before every task in the second,
+        // so the concatenation keeps the (start day, ID) order cursors rely on:
+        // 1. Started before the range but are still active (not completed), OR
+        // 2. Started within the date range (cancelled tasks are never indexed here)
+        return Stream.concat(taskStore.findActiveStartingBefore(startDate, after),
+                taskStore.findOpenStartingBetween(startDate, endDate, after));
     }
     
     /**
@@ -190,43 +457,54 @@ public class TaskService {
      * @throws RuntimeException if task not found
      */
     public TaskDto assignTaskByRef(String taskId, AssignTaskRequest request) {
-        Task originalTask = tasks.get(taskId);
-        if (originalTask == null) {
-            throw new RuntimeException("Task not found with ID: " + taskId);
-        }
-        
-        // Cancel the original task
-        originalTask.setStatus(TaskStatus.CANCELLED);
-        originalTask.setUpdatedAt(LocalDateTime.now());
-        addActivityLog(originalTask, request.getReassignedBy(), "CANCELLED", 
-                "Task cancelled due to reassignment to " + request.getNewStaffId());
-        
-        // Create a new task for the new staff member
-        String newTaskId = UUID.randomUUID().toString();
-        LocalDateTime now = LocalDateTime.now();
-        
-        Task newTask = Task.builder()
-                .id(newTaskId)
-                .title(originalTask.getTitle())
-                .description(originalTask.getDescription())
-                .status(TaskStatus.ACTIVE)
-                .priority(originalTask.getPriority())
-                .assignedStaffId(request.getNewStaffId())
-                .startDate(originalTask.getStartDate())
-                .dueDate(originalTask.getDueDate())
-                .createdAt(now)
-                .updatedAt(now)
-                .createdBy(request.getReassignedBy())
-                .activityHistory(new ArrayList<>())
-                .comments(new ArrayList<>())
-                .build();
-        
-        addActivityLog(newTask, request.getReassignedBy(), "REASSIGNED", 
-                "Task reassigned from " + originalTask.getAssignedStaffId() + 
-                " to " + request.getNewStaffId());
+        return assignTaskByRef(taskId, request, null);
+    }
+    
+    /**
+     * Reassign a task, provided it is still at the version the caller last saw
+     * 
+     * @param expectedVersion the task version the change is based on, or null to reassign unconditionally
+     * @throws VersionConflictException if the task is no longer at that version
+     * @throws TaskReplacedException if the task has already been reassigned
+     * @see #assignTaskByRef(String, AssignTaskRequest)
+     */
+    public TaskDto assignTaskByRef(String taskId, AssignTaskRequest request, Long expectedVersion) {
+        long start = System.nanoTime();
+        String picked = null;
+        try {
+            if (Boolean.TRUE.equals(request.getAutoAssign())) {
+                // The assignee never changes in place, so it can be read before the update
+                Task current = taskStore.findById(taskId);
+                if (current == null) {
+                    throw new RuntimeException("Task not found with ID: " + taskId);
+                }
+                picked = pickAssignee(true, request.getNewStaffId(), request.getDepartment(), request.getRole(),
+                        current.getAssignedStaffId());
+            }
+            String newStaffId = picked != null ? picked : request.getNewStaffId();
+            
+            // Cancel the original task
+            Task originalTask = taskStore.update(taskId, task -> {
+                checkVersion(task, expectedVersion);
+                checkNotReplaced(task);
+                cancelForReassignment(task, newStaffId, request.getReassignedBy(), Timestamps.now());
+            });
+            if (originalTask == null) {
+                throw new RuntimeException("Task not found with ID: " + taskId);
+            }
         
-        tasks.put(newTaskId, newTask);
-        return taskMapper.taskToTaskDto(newTask);
+            // Create a new task for the new staff member
+            Task newTask = reassignedCopy(originalTask, newStaffId, request.getReassignedBy(), Timestamps.now());
+            taskStore.save(newTask);
+            changed(originalTask, ActivityAction.CANCELLED);
+            changed(newTask, ActivityAction.REASSIGNED);
+            return taskMapper.taskToTaskDto(newTask);
+        } finally {
+            if (picked != null) {
+                staffLoads.release(picked);
+            }
+            assignTaskByRefLatency.recordSince(start);
+        }
     }
     
     /**
@@ -238,19 +516,41 @@ public class TaskService {
      * @throws RuntimeException if task not found
      */
     public TaskDto updateTaskPriority(String taskId, UpdatePriorityRequest request) {
-        Task task = tasks.get(taskId);
-        if (task == null) {
-            throw new RuntimeException("Task not found with ID: " + taskId);
-        }
-        
-        TaskPriority oldPriority = task.getPriority();
-        task.setPriority(request.getPriority());
-        task.setUpdatedAt(LocalDateTime.now());
-        
-        addActivityLog(task, request.getUpdatedBy(), "PRIORITY_UPDATED", 
-                "Priority changed from " + oldPriority + " to " + request.getPriority());
+        return updateTaskPriority(taskId, request, null);
+    }
+    
+    /**
+     * Update a task's priority, provided it is still at the version the caller last saw
+     * 
+     * @param expectedVersion the task version the change is based on, or null to update unconditionally
+     * @throws VersionConflictException if the task is no longer at that version
+     * @see #updateTaskPriority(String, UpdatePriorityRequest)
+     */
+    public TaskDto updateTaskPriority(String taskId, UpdatePriorityRequest request, Long expectedVersion) {
+        long start = System.nanoTime();
+        try {
+            TaskPriority[] oldPriority = new TaskPriority[1];
+            Task task = taskStore.update(taskId, t -> {
+                checkVersion(t, expectedVersion);
+                oldPriority[0] = t.getPriority();
+                t.setPriority(request.getPriority());
+                t.setUpdatedAt(Timestamps.now());
+            
+                addActivityLog(t, request.getUpdatedBy(), ActivityAction.PRIORITY_UPDATED,
+                        nameOf(oldPriority[0]), nameOf(request.getPriority()));
+                bumpVersion(t);
+            });
+            if (task == null) {
+                throw new RuntimeException("Task not found with ID: " + taskId);
+            }
+            // The task also left the view of its old priority
+            viewVersions.changed(task.getAssignedStaffId(), oldPriority[0]);
+            changed(task, ActivityAction.PRIORITY_UPDATED);
         
-        return taskMapper.taskToTaskDto(task);
+            return taskMapper.taskToTaskDto(task);
+        } finally {
+            updateTaskPriorityLatency.recordSince(start);
+        }
     }
     
     /**
@@ -260,11 +560,53 @@ public class TaskService {
      * @return list of tasks with the specified priority
      */
     public List<TaskDto> getTasksByPriority(TaskPriority priority) {
-        return tasks.values().stream()
-                .filter(task -> task.getPriority() == priority)
-                .filter(task -> task.getStatus() != TaskStatus.CANCELLED) // Exclude cancelled tasks
-                .map(taskMapper::taskToTaskDto)
-                .collect(Collectors.toList());
+        long start = System.nanoTime();
+        try {
+            return priorityTasks(priority, null).map(taskMapper::taskToTaskDto).collect(Collectors.toList());
+        } finally {
+            getTasksByPriorityLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Get one page of the tasks at a priority level, ordered by task ID
+     * 
+     * @param priority the priority level to filter by
+     * @param after cursor returned with the previous page, or null for the first page
+     * @param limit maximum number of tasks to return, or null for no limit
+     * @param fields comma-separated summary columns to include, or null for all
+     * @return the page of task summaries and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor, limit or fields are invalid
+     */
+    public TaskPage getTasksByPriority(TaskPriority priority, String after, Integer limit, String fields) {
+        long start = System.nanoTime();
+        try {
+            return viewCache.get(new ViewCache.Key("priority", priority, null, after, limit, fields),
+                    viewVersions.priority(priority),
+                    () -> page(priorityTasks(priority, TaskCursor.decode(after)), limit, TaskService::idPosition,
+                            fields));
+        } finally {
+            getTasksByPriorityLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Lazily stream the tasks at a priority level, ordered by task ID
+     * 
+     * @param priority the priority level to filter by
+     * @param after cursor to resume after, or null to start from the beginning
+     * @param fields comma-separated summary columns to include, or null for all
+     * @return stream of task summaries, evaluated as the caller consumes it
+     * @throws IllegalArgumentException if the cursor or fields are invalid
+     */
+    public Stream<TaskSummaryDto> streamTasksByPriority(TaskPriority priority, String after, String fields) {
+        Function<Task, TaskSummaryDto> projection = taskMapper.summaryProjection(fields);
+        return priorityTasks(priority, TaskCursor.decode(after)).map(projection);
+    }
+    
+    private Stream<Task> priorityTasks(TaskPriority priority, TaskCursor after) {
+        return taskStore.findByPriority(priority, after)
+                .filter(task -> task.getStatus() != TaskStatus.CANCELLED); // Exclude cancelled tasks
     }
     
     /**
@@ -276,29 +618,88 @@ public class TaskService {
      * @throws RuntimeException if task not found
      */
     public TaskDto addCommentToTask(String taskId, AddCommentRequest request) {
-        Task task = tasks.get(taskId);
-        if (task == null) {
-            throw new RuntimeException("Task not found with ID: " + taskId);
-        }
-        
-        Comment comment = Comment.builder()
-                .id(UUID.randomUUID().toString())
-                .taskId(taskId)
-                .userId(request.getUserId())
-                .text(request.getText())
-                .timestamp(LocalDateTime.now())
-                .build();
+        return addCommentToTask(taskId, request, null);
+    }
+    
+    /**
+     * Add a comment to a task, provided it is still at the version the caller last saw
+     * 
+     * @param expectedVersion the task version the comment is based on, or null to add it unconditionally
+     * @throws VersionConflictException if the task is no longer at that version
+     * @see #addCommentToTask(String, AddCommentRequest)
+     */
+    public TaskDto addCommentToTask(String taskId, AddCommentRequest request, Long expectedVersion) {
+        long start = System.nanoTime();
+        try {
+            TaskId commentId = idGenerator.next();
+            Comment comment = Comment.builder()
+                    .idHigh(commentId.high())
+                    .idLow(commentId.low())
+                    .userId(StaffIds.intern(request.getUserId()))
+                    .text(request.getText())
+                    .timestamp(Timestamps.now())
+                    .build();
         
-        task.getComments().add(comment);
-        task.setUpdatedAt(LocalDateTime.now());
+            Task task = taskStore.update(taskId, t -> {
+                checkVersion(t, expectedVersion);
+                t.getComments().append(comment);
+                t.setUpdatedAt(Timestamps.now());
+            
+                // The entry keeps only a preview, so the text is not stored and journalled twice
+                addActivityLog(t, request.getUserId(), ActivityAction.COMMENT_ADDED, null,
+                        ActivityAction.commentPreview(request.getText()));
+                bumpVersion(t);
+            });
+            if (task == null) {
+                throw new RuntimeException("Task not found with ID: " + taskId);
+            }
+            changed(task, ActivityAction.COMMENT_ADDED);
         
-        addActivityLog(task, request.getUserId(), "COMMENT_ADDED", 
-                "Comment added: \"" + 
-                (request.getText().length() > 50 ? 
-                 request.getText().substring(0, 50) + "..." : 
-                 request.getText()) + "\"");
+            return taskMapper.taskToTaskDto(task);
+        } finally {
+            addCommentToTaskLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Search non-cancelled tasks by keyword, best matches first
+     * 
+     * Titles, descriptions and comments are searched; a task matches if it
+     * contains any word of the query. The filters narrow the matches the
+     * same way the list endpoints do.
+     * 
+     * @param query the words to look for
+     * @param status only return tasks in this status, or null for any
+     * @param priority only return tasks at this priority, or null for any
+     * @param staffId only return tasks assigned to this staff member, or null for any
+     * @param limit maximum number of tasks to return, or null for the default
+     * @param fields comma-separated summary columns to include, or null for all
+     * @return summaries of the best matching tasks
+     * @throws IllegalArgumentException if the query has no words, or the limit or fields are invalid
+     */
+    public List<TaskSummaryDto> searchTasks(String query, TaskStatus status, TaskPriority priority, String staffId,
+                                            Integer limit, String fields) {
+        long start = System.nanoTime();
+        try {
+            int size = limit != null ? limit : DEFAULT_SEARCH_LIMIT;
+            if (size < 1 || size > MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+            }
+            if (query == null || query.chars().noneMatch(Character::isLetterOrDigit)) {
+                throw new IllegalArgumentException("q must contain at least one word");
+            }
+            Function<Task, TaskSummaryDto> projection = taskMapper.summaryProjection(fields);
         
-        return taskMapper.taskToTaskDto(task);
+            return searchIndex.search(query, task -> task.getStatus() != TaskStatus.CANCELLED
+                            && (status == null || task.getStatus() == status)
+                            && (priority == null || task.getPriority() == priority)
+                            && (staffId == null || staffId.equals(task.getAssignedStaffId())), size)
+                    .stream()
+                    .map(projection)
+                    .collect(Collectors.toList());
+        } finally {
+            searchTasksLatency.recordSince(start);
+        }
     }
     
     /**
@@ -311,19 +712,450 @@ public class TaskService {
      * @throws RuntimeException if task not found
      */
     public TaskDto updateTaskStatus(String taskId, TaskStatus status, String updatedBy) {
-        Task task = tasks.get(taskId);
-        if (task == null) {
-            throw new RuntimeException("Task not found with ID: " + taskId);
+        return updateTaskStatus(taskId, status, updatedBy, null);
+    }
+    
+    /**
+     * Update a task's status, provided it is still at the version the caller last saw
+     * 
+     * @param expectedVersion the task version the change is based on, or null to update unconditionally
+     * @throws VersionConflictException if the task is no longer at that version
+     * @throws TaskReplacedException if the task has been reassigned, which cancelled it for good
+     * @see #updateTaskStatus(String, TaskStatus, String)
+     */
+    public TaskDto updateTaskStatus(String taskId, TaskStatus status, String updatedBy, Long expectedVersion) {
+        long start = System.nanoTime();
+        try {
+            Task task = taskStore.update(taskId, t -> {
+                checkVersion(t, expectedVersion);
+                checkNotReplaced(t);
+                changeStatus(t, status, updatedBy, Timestamps.now());
+            });
+            if (task == null) {
+                throw new RuntimeException("Task not found with ID: " + taskId);
+            }
+            changed(task, ActivityAction.STATUS_UPDATED);
+        
+            return taskMapper.taskToTaskDto(task);
+        } finally {
+            updateTaskStatusLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Create several tasks in one call
+     * 
+     * Entries are validated individually; valid ones are stored together and
+     * share one creation timestamp. Only IDs are returned, not full tasks.
+     * 
+     * @param requests the tasks to create
+     * @param createdBy the user creating the tasks
+     * @return per-entry results in request order
+     */
+    public BatchResponse createTasks(List<CreateTaskRequest> requests, String createdBy) {
+        long start = System.nanoTime();
+        try {
+            checkBatchSize(requests);
+            long now = Timestamps.now();
+            BatchItemResult[] results = new BatchItemResult[requests.size()];
+            List<Task> created = new ArrayList<>(requests.size());
+            List<String> picks = new ArrayList<>();
+            
+            try {
+                for (int i = 0; i < requests.size(); i++) {
+                    CreateTaskRequest request = requests.get(i);
+                    boolean assigned = request != null
+                            && (request.getAssignedStaffId() != null || Boolean.TRUE.equals(request.getAutoAssign()));
+                    if (request == null || request.getTitle() == null || !assigned) {
+                        results[i] = BatchItemResult.failed(i, "title and assignedStaffId or autoAssign are required");
+                        continue;
+                    }
+                    Task task;
+                    String picked = null;
+                    try {
+                        picked = pickAssignee(request.getAutoAssign(), request.getAssignedStaffId(),
+                                request.getDepartment(), request.getRole(), null);
+                        task = newTask(request, picked != null ? picked : request.getAssignedStaffId(), createdBy, now);
+                    } catch (IllegalArgumentException e) {
+                        if (picked != null) {
+                            staffLoads.release(picked);
+                        }
+                        results[i] = BatchItemResult.failed(i, e.getMessage());
+                        continue;
+                    }
+                    if (picked != null) {
+                        picks.add(picked);
+                    }
+                    created.add(task);
+                    results[i] = BatchItemResult.ok(i, task.getId().toString());
+                }
+                
+                taskStore.saveAll(created);
+                for (Task task : created) {
+                    changed(task, ActivityAction.CREATED);
+                }
+            } finally {
+                // Picks count against their staff until the tasks are stored and counted
+                picks.forEach(staffLoads::release);
+            }
+            return batchResponse(results);
+        } finally {
+            createTasksLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Change the status of several tasks in one call
+     * 
+     * @param items task IDs with their new status
+     * @param updatedBy the user updating the tasks
+     * @return per-entry results in request order
+     */
+    public BatchResponse updateTaskStatuses(List<BatchStatusItem> items, String updatedBy) {
+        long start = System.nanoTime();
+        try {
+            checkBatchSize(items);
+            long now = Timestamps.now();
+            List<String> ids = validIds(items, item -> item.getStatus() != null ? item.getTaskId() : null);
+            
+            boolean[] replaced = new boolean[items.size()];
+            List<Task> updated = taskStore.updateAll(ids, (i, task) -> {
+                replaced[i] = isReplaced(task);
+                if (!replaced[i]) {
+                    changeStatus(task, items.get(i).getStatus(), updatedBy, now);
+                }
+            });
+            
+            BatchItemResult[] results = new BatchItemResult[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                results[i] = ids.get(i) == null ? BatchItemResult.failed(i, "taskId and status are required")
+                        : updated.get(i) == null ? BatchItemResult.failed(i, "Task not found with ID: " + ids.get(i))
+                        : replaced[i] ? BatchItemResult.failed(i, new TaskReplacedException(ids.get(i)).getMessage())
+                        : BatchItemResult.ok(i, ids.get(i));
+                if (updated.get(i) != null && !replaced[i]) {
+                    changed(updated.get(i), ActivityAction.STATUS_UPDATED);
+                }
+            }
+            return batchResponse(results);
+        } finally {
+            updateTaskStatusesLatency.recordSince(start);
+        }
+    }
+    
+    /**
+     * Reassign several tasks in one call, with the same semantics as {@link #assignTaskByRef}
+     * 
+     * All originals are cancelled in one pass over the store, then all
+     * replacement tasks are stored together.
+     * 
+     * @param items task IDs with their new assignee
+     * @param reassignedBy the user performing the reassignments
+     * @return per-entry results in request order, carrying the IDs of the new tasks
+     */
+    public BatchResponse assignTasks(List<BatchAssignItem> items, String reassignedBy) {
+        long start = System.nanoTime();
+        try {
+            checkBatchSize(items);
+            long now = Timestamps.now();
+            List<String> ids = validIds(items, item -> item.getNewStaffId() != null ? item.getTaskId() : null);
+            
+            boolean[] replaced = new boolean[items.size()];
+            List<Task> cancelled = taskStore.updateAll(ids, (i, task) -> {
+                replaced[i] = isReplaced(task);
+                if (!replaced[i]) {
+                    cancelForReassignment(task, items.get(i).getNewStaffId(), reassignedBy, now);
+                }
+            });
+            
+            BatchItemResult[] results = new BatchItemResult[items.size()];
+            List<Task> replacements = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                if (ids.get(i) == null) {
+                    results[i] = BatchItemResult.failed(i, "taskId and newStaffId are required");
+                } else if (cancelled.get(i) == null) {
+                    results[i] = BatchItemResult.failed(i, "Task not found with ID: " + ids.get(i));
+                } else if (replaced[i]) {
+                    results[i] = BatchItemResult.failed(i, new TaskReplacedException(ids.get(i)).getMessage());
+                } else {
+                    Task replacement = reassignedCopy(cancelled.get(i), items.get(i).getNewStaffId(), reassignedBy, now);
+                    replacements.add(replacement);
+                    changed(cancelled.get(i), ActivityAction.CANCELLED);
+                    results[i] = BatchItemResult.ok(i, replacement.getId().toString());
+                }
+            }
+            
+            taskStore.saveAll(replacements);
+            for (Task replacement : replacements) {
+                changed(replacement, ActivityAction.REASSIGNED);
+            }
+            return batchResponse(results);
+        } finally {
+            assignTasksLatency.recordSince(start);
         }
+    }
+    
+    private static void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch must contain between 1 and " + MAX_BATCH_SIZE + " entries");
+        }
+    }
+    
+    /**
+     * Task ID of each entry, or null for entries that are missing required fields
+     */
+    private static <T> List<String> validIds(List<T> items, Function<T, String> idIfValid) {
+        List<String> ids = new ArrayList<>(items.size());
+        for (T item : items) {
+            ids.add(item == null ? null : idIfValid.apply(item));
+        }
+        return ids;
+    }
+    
+    private static BatchResponse batchResponse(BatchItemResult[] results) {
+        int failed = 0;
+        for (BatchItemResult result : results) {
+            if (result.getError() != null) {
+                failed++;
+            }
+        }
+        return BatchResponse.builder()
+                .succeeded(results.length - failed)
+                .failed(failed)
+                .results(Arrays.asList(results))
+                .build();
+    }
+    
+    /**
+     * Build a new ACTIVE task from a creation request, with its CREATED history entry
+     */
+    private Task newTask(CreateTaskRequest request, String assignedStaffId, String createdBy, long now) {
+        Task task = Task.builder()
+                .id(idGenerator.next())
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .status(TaskStatus.ACTIVE)
+                .priority(request.getPriority() != null ? request.getPriority() : TaskPriority.MEDIUM)
+                .assignedStaffId(StaffIds.intern(assignedStaffId))
+                .startDate(Timestamps.of(request.getStartDate()))
+                .dueDate(Timestamps.of(request.getDueDate()))
+                .createdAt(now)
+                .updatedAt(now)
+                .createdBy(StaffIds.intern(createdBy))
+                .version(1)
+                .activityHistory(new AppendOnlyLog<>())
+                .comments(new AppendOnlyLog<>())
+                .build();
         
+        // Add creation activity log
+        addActivityLog(task, createdBy, ActivityAction.CREATED, null, task.getAssignedStaffId(), now);
+        return task;
+    }
+    
+    /**
+     * Build the ACTIVE copy of a task that replaces it for a new assignee
+     */
+    private Task reassignedCopy(Task original, String newStaffId, String reassignedBy, long now) {
+        Task newTask = Task.builder()
+                .id(idGenerator.next())
+                .title(original.getTitle())
+                .description(original.getDescription())
+                .status(TaskStatus.ACTIVE)
+                .priority(original.getPriority())
+                .assignedStaffId(StaffIds.intern(newStaffId))
+                .startDate(original.getStartDate())
+                .dueDate(original.getDueDate())
+                .createdAt(now)
+                .updatedAt(now)
+                .createdBy(StaffIds.intern(reassignedBy))
+                .version(1)
+                .activityHistory(new AppendOnlyLog<>())
+                .comments(new AppendOnlyLog<>())
+                .build();
+        
+        addActivityLog(newTask, reassignedBy, ActivityAction.REASSIGNED, original.getAssignedStaffId(),
+                newTask.getAssignedStaffId(), now);
+        return newTask;
+    }
+    
+    private void cancelForReassignment(Task task, String newStaffId, String reassignedBy, long now) {
+        task.setStatus(TaskStatus.CANCELLED);
+        task.setUpdatedAt(now);
+        addActivityLog(task, reassignedBy, ActivityAction.CANCELLED, null, StaffIds.intern(newStaffId), now);
+        bumpVersion(task);
+    }
+    
+    private void changeStatus(Task task, TaskStatus status, String updatedBy, long now) {
         TaskStatus oldStatus = task.getStatus();
         task.setStatus(status);
-        task.setUpdatedAt(LocalDateTime.now());
+        task.setUpdatedAt(now);
         
-        addActivityLog(task, updatedBy, "STATUS_UPDATED", 
-                "Status changed from " + oldStatus + " to " + status);
+        addActivityLog(task, updatedBy, ActivityAction.STATUS_UPDATED, nameOf(oldStatus), nameOf(status), now);
+        bumpVersion(task);
+    }
+    
+    /**
+     * Reject a change based on an out-of-date copy of the task; runs inside the store's per-task update
+     * 
+     * @param expectedVersion the version the caller last saw, or null to allow any
+     * @throws VersionConflictException if the task has changed since
+     */
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && task.getVersion() != expectedVersion) {
+            throw new VersionConflictException(task.getId().toString(), expectedVersion, task.getVersion());
+        }
+    }
+    
+    /**
+     * Reject a change to a task that a reassignment has replaced; runs inside the store's per-task update
+     * 
+     * Reassigning it again would create a second replacement, and reopening
+     * it would leave two active copies of the same work.
+     * 
+     * @throws TaskReplacedException if the task has been reassigned
+     */
+    private static void checkNotReplaced(Task task) {
+        if (isReplaced(task)) {
+            throw new TaskReplacedException(task.getId().toString());
+        }
+    }
+    
+    /**
+     * A task is replaced once cancelled by a reassignment, and stays cancelled, so only cancelled tasks are scanned
+     */
+    private static boolean isReplaced(Task task) {
+        if (task.getStatus() != TaskStatus.CANCELLED) {
+            return false;
+        }
+        for (ActivityLog entry : task.getActivityHistory()) {
+            if (entry.getAction() == ActivityAction.CANCELLED) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Last step of every change to a stored task, so readers that see the new version see the whole change
+     */
+    private static void bumpVersion(Task task) {
+        task.setVersion(task.getVersion() + 1);
+    }
+    
+    /**
+     * Bump the versions of the views showing a task and tell its assignee's subscribers, after a change
+     * 
+     * Also indexes the task for search, which re-adds a task just restored from the archive.
+     */
+    private void changed(Task task, ActivityAction action) {
+        searchIndex.index(task);
+        viewVersions.changed(task);
+        eventFeed.publish(task, action);
+        deadlines.track(task);
+        // Only these can move a task in or out of its assignee's ACTIVE list
+        if (action == ActivityAction.CREATED || action == ActivityAction.REASSIGNED
+                || action == ActivityAction.CANCELLED || action == ActivityAction.STATUS_UPDATED) {
+            staffLoads.refresh(task.getAssignedStaffId());
+        }
+    }
+    
+    /**
+     * Pick the least-loaded eligible staff member when a request asks for automatic assignment
+     * 
+     * The pick counts against the staff member until released, which the
+     * caller does once the task is stored, or has failed to be.
+     * 
+     * @param excluded a staff member not to pick, or null
+     * @return the staff member picked, or null if the request names its own
+     * @throws IllegalArgumentException if the request does both, or no staff member matches
+     */
+    private String pickAssignee(Boolean autoAssign, String staffId, String department, String role, String excluded) {
+        if (!Boolean.TRUE.equals(autoAssign)) {
+            return null;
+        }
+        if (staffId != null) {
+            throw new IllegalArgumentException("Name a staff member or ask for automatic assignment, not both");
+        }
+        return staffLoads.reserve(department, role, excluded);
+    }
+    
+    /**
+     * Mark tasks overdue, or escalate them, when the scheduler says their deadlines were reached
+     * 
+     * A tick's deadlines are applied with one batch update, so with the
+     * journal on they share one fsync rather than waiting for one each.
+     * 
+     * @param reached deadlines reached in one tick; a task may appear once per kind
+     */
+    private void deadlinesReached(List<DeadlineScheduler.Deadline> reached) {
+        List<String> ids = reached.stream().map(deadline -> deadline.taskId().toString()).collect(Collectors.toList());
+        TaskPriority[] oldPriorities = new TaskPriority[reached.size()];
+        boolean[] marked = new boolean[reached.size()];
+        List<Task> updated = taskStore.updateAll(ids,
+                (i, task) -> marked[i] = markDeadline(task, reached.get(i), oldPriorities, i));
         
-        return taskMapper.taskToTaskDto(task);
+        for (int i = 0; i < reached.size(); i++) {
+            Task task = updated.get(i);
+            if (task == null || !marked[i]) {
+                continue;
+            }
+            if (oldPriorities[i] != null) {
+                viewVersions.changed(task.getAssignedStaffId(), oldPriorities[i]);
+            }
+            changed(task, deadlineAction(reached.get(i)));
+        }
+    }
+    
+    /**
+     * Mark one task overdue, or escalate it, under its store lock
+     * 
+     * The timer may be stale, so the task must still be ACTIVE with the same
+     * due date. Each mark is logged at most once per deadline: a task already
+     * logged as overdue since its due date, or escalated since the lead time,
+     * is left alone, which also covers timers scheduled again after a restart.
+     * Escalation never lowers a priority.
+     * 
+     * @param oldPriorities receives the priority an escalated task had, at the given index
+     * @return whether the task was changed
+     */
+    private boolean markDeadline(Task task, DeadlineScheduler.Deadline deadline, TaskPriority[] oldPriorities,
+                                 int index) {
+        ActivityAction action = deadlineAction(deadline);
+        if (task.getStatus() != TaskStatus.ACTIVE || task.getDueDate() != deadline.dueDate()
+                || loggedSince(task, action, deadline.at())) {
+            return false;
+        }
+        long now = Timestamps.now();
+        if (action == ActivityAction.OVERDUE) {
+            addActivityLog(task, DEADLINE_USER, ActivityAction.OVERDUE, null, null, now);
+        } else {
+            TaskPriority target = deadlines.escalateTo();
+            if (task.getPriority() != null && task.getPriority().compareTo(target) >= 0) {
+                return false;
+            }
+            oldPriorities[index] = task.getPriority();
+            task.setPriority(target);
+            addActivityLog(task, DEADLINE_USER, ActivityAction.ESCALATED, nameOf(oldPriorities[index]),
+                    nameOf(target), now);
+        }
+        task.setUpdatedAt(now);
+        bumpVersion(task);
+        return true;
+    }
+    
+    private static ActivityAction deadlineAction(DeadlineScheduler.Deadline deadline) {
+        return deadline.kind() == DeadlineScheduler.Kind.OVERDUE ? ActivityAction.OVERDUE : ActivityAction.ESCALATED;
+    }
+    
+    /**
+     * @return whether the task's history has the action at or after the given time, found by binary search
+     */
+    private static boolean loggedSince(Task task, ActivityAction action, long timestamp) {
+        for (ActivityLog entry : task.getActivityHistory().since(timestamp - 1, Integer.MAX_VALUE)) {
+            if (entry.getAction() == action) {
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
@@ -332,22 +1164,185 @@ public class TaskService {
      * This method automatically tracks all significant events that occur
      * during a task's lifecycle for complete audit trail.
      * 
+     * The entry stores the action and the values it mentions; TaskMapper
+     * renders the description when the history is read.
+     * 
      * @param task the task to log activity for
      * @param userId the user performing the action
      * @param action the type of action performed
-     * @param description detailed description of the action
+     * @param from the value before the change, or null
+     * @param to the value after the change, or the subject of the action
      */
-    private void addActivityLog(Task task, String userId, String action, String description) {
+    private void addActivityLog(Task task, String userId, ActivityAction action, String from, String to) {
+        addActivityLog(task, userId, action, from, to, Timestamps.now());
+    }
+    
+    /**
+     * Add an activity log entry with a timestamp chosen by the caller, so a batch shares one clock reading
+     */
+    private void addActivityLog(Task task, String userId, ActivityAction action, String from, String to,
+                                long timestamp) {
+        TaskId id = idGenerator.next();
         ActivityLog log = ActivityLog.builder()
-                .id(UUID.randomUUID().toString())
-                .taskId(task.getId())
-                .userId(userId)
+                .idHigh(id.high())
+                .idLow(id.low())
+                .userId(StaffIds.intern(userId))
                 .action(action)
-                .description(description)
-                .timestamp(LocalDateTime.now())
+                .from(from)
+                .to(to)
+                .timestamp(timestamp)
                 .build();
         
-        task.getActivityHistory().add(log);
+        task.getActivityHistory().append(log);
+        historyLength.record(task.getActivityHistory().size());
+    }
+    
+    /**
+     * Cut an ordered task stream into a page of summaries
+     * 
+     * One extra task is read past the limit to find out whether another page exists,
+     * so the cursor is only handed out when there is something after it.
+     */
+    private TaskPage page(Stream<Task> ordered, Integer limit, Function<Task, TaskCursor> position,
+                          String fields) {
+        Function<Task, TaskSummaryDto> projection = taskMapper.summaryProjection(fields);
+        if (limit == null) {
+            return TaskPage.builder()
+                    .items(ordered.map(projection).collect(Collectors.toList()))
+                    .build();
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        
+        List<Task> window = ordered.limit(limit + 1L).collect(Collectors.toList());
+        boolean hasMore = window.size() > limit;
+        List<Task> pageTasks = hasMore ? window.subList(0, limit) : window;
+        
+        return TaskPage.builder()
+                .items(pageTasks.stream().map(projection).collect(Collectors.toList()))
+                .nextCursor(hasMore ? position.apply(pageTasks.get(limit - 1)).encode() : null)
+                .build();
+    }
+    
+    private static TaskCursor idPosition(Task task) {
+        return TaskCursor.of(task.getId());
+    }
+    
+    private static TaskCursor dayPosition(Task task) {
+        return TaskCursor.of(Timestamps.toDate(task.getStartDate()), task.getId());
+    }
+    
+    /**
+     * Enum constant names are shared strings, so history entries can hold them at no cost
+     */
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+    
+    private static TaskCursor decodeDayCursor(String after) {
+        TaskCursor cursor = TaskCursor.decode(after);
+        if (cursor != null && cursor.day() == null) {
+            throw new IllegalArgumentException("Cursor does not belong to the date-range view: " + after);
+        }
+        return cursor;
+    }
+    
+    /**
+     * Get the current version of a task, without reading the rest of it
+     * 
+     * @param id the task ID
+     * @return the task's version
+     * @throws RuntimeException if task not found
+     */
+    public long getTaskVersion(String id) {
+        Task task = taskStore.findById(id);
+        if (task == null) {
+            throw new RuntimeException("Task not found with ID: " + id);
+        }
+        return task.getVersion();
+    }
+    
+    /**
+     * @return version of the views spanning all tasks: the full list and search
+     */
+    public long getAllTasksVersion() {
+        return viewVersions.global();
+    }
+    
+    /**
+     * @param endDate end of the date range
+     * @return version of the smart daily view for any range ending on the given day
+     */
+    public long getDateRangeTasksVersion(LocalDate endDate) {
+        return viewVersions.dateRange(endDate);
+    }
+    
+    /**
+     * @param staffId the staff member ID
+     * @return version of the staff member's task list
+     */
+    public long getStaffTasksVersion(String staffId) {
+        return viewVersions.staff(staffId);
+    }
+    
+    /**
+     * @param priority the priority level
+     * @return version of the task list at the priority
+     */
+    public long getPriorityTasksVersion(TaskPriority priority) {
+        return viewVersions.priority(priority);
+    }
+    
+    /**
+     * Task counts for the workload dashboard
+     * 
+     * Per-staff counts come from counters the store keeps up to date on
+     * every write, so no task is read. Departments and totals are summed
+     * from the per-staff counts, which costs the number of staff members.
+     * 
+     * @return counts for everyone, per department and per staff member
+     */
+    public WorkloadStatsDto getWorkloadStats() {
+        long start = System.nanoTime();
+        try {
+            WorkloadCountsDto totals = new WorkloadCountsDto();
+            Map<String, WorkloadCountsDto> departments = new TreeMap<>();
+            Map<String, WorkloadCountsDto> staffCounts = new TreeMap<>();
+            taskStore.workloadByStaff().forEach((staffId, counts) -> {
+                Staff member = staff.get(staffId);
+                String department = member != null && member.getDepartment() != null
+                        ? member.getDepartment() : UNKNOWN_DEPARTMENT;
+                WorkloadCountsDto own = WorkloadCountsDto.builder().department(department).build();
+                addCounts(own, counts);
+                addCounts(totals, counts);
+                addCounts(departments.computeIfAbsent(department, d -> new WorkloadCountsDto()), counts);
+                staffCounts.put(staffId, own);
+            });
+            return WorkloadStatsDto.builder()
+                    .generatedAt(Timestamps.toDateTime(Timestamps.now()))
+                    .totals(totals)
+                    .departments(departments)
+                    .staff(staffCounts)
+                    .build();
+        } finally {
+            getWorkloadStatsLatency.recordSince(start);
+        }
+    }
+    
+    private static void addCounts(WorkloadCountsDto target, WorkloadCounts counts) {
+        counts.byStatus().forEach((status, byPriority) -> byPriority.forEach((priority, count) -> {
+            target.getByStatus().computeIfAbsent(status, s -> new EnumMap<>(TaskPriority.class))
+                    .merge(priority, count, Long::sum);
+            target.setTotal(target.getTotal() + count);
+            if (status == TaskStatus.ACTIVE) {
+                target.setActive(target.getActive() + count);
+            }
+        }));
+        counts.overdue().forEach((priority, count) -> {
+            target.getOverdueByPriority().merge(priority, count, Long::sum);
+            target.setOverdue(target.getOverdue() + count);
+        });
     }
     
     /**
@@ -0,0 +1,13 @@
+package com.yourcompany.workforcemgmt.service;
+
+/**
+ * Thrown when a change is made conditional on a task version that is no longer current
+ */
+public class VersionConflictException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public VersionConflictException(String taskId, long expected, long actual) {
+        super("Task " + taskId + " is at version " + actual + ", not " + expected);
+    }
+}
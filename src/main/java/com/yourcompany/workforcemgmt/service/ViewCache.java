@@ -0,0 +1,133 @@
+package com.yourcompany.workforcemgmt.service;
+
+import com.yourcompany.workforcemgmt.dto.TaskPage;
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of list view pages, validated against {@link ViewVersions}
+ *
+ * Each page is stored with the version its view had before the page was
+ * computed, and is only served while the view is still at that version.
+ * A change to a task moves the versions of exactly the views showing it, so
+ * it invalidates exactly the pages of those views: a reassignment moves
+ * both staff members' lists, a priority change both priorities' lists.
+ * An invalidated page is dropped the next time it is looked up.
+ *
+ * Eviction is least recently used, bounded by both the number of pages and
+ * their total weight, which is the number of task summaries they hold.
+ * Pages are computed outside the lock, so two requests missing on the same
+ * key may both compute it; the later one replaces the earlier.
+ */
+@Component
+public class ViewCache {
+
+    /**
+     * A page request: the view, its parameters and the page parameters
+     */
+    public record Key(String view, Object first, Object second, String after, Integer limit, String fields) {
+    }
+
+    private record Entry(long version, TaskPage page, int weight) {
+    }
+
+    private final ViewCacheProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ViewCache(ViewCacheProperties properties, MetricsRegistry metrics) {
+        this.properties = properties;
+        metrics.gauge("workforce_view_cache_events", "List view cache lookups and removals", "event", () -> {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            counts.put("hit", hits.sum());
+            counts.put("miss", misses.sum());
+            counts.put("eviction", evictions.sum());
+            counts.put("invalidation", invalidations.sum());
+            return counts;
+        });
+        metrics.gauge("workforce_view_cache_size", "Pages and task summaries held by the list view cache", "unit",
+                () -> {
+                    lock.lock();
+                    try {
+                        return Map.of("pages", (long) entries.size(), "tasks", weight);
+                    } finally {
+                        lock.unlock();
+                    }
+                });
+    }
+
+    /**
+     * Return the cached page if its view has not changed, otherwise compute and cache it
+     *
+     * @param key the page request
+     * @param version the view's current version, read before anything else about the view
+     * @param compute produces the page; exceptions pass through and nothing is cached
+     * @return the page
+     */
+    public TaskPage get(Key key, long version, Supplier<TaskPage> compute) {
+        if (!properties.isEnabled()) {
+            return compute.get();
+        }
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.version() == version) {
+                    hits.increment();
+                    return entry.page();
+                }
+                remove(key, entry);
+                invalidations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+        misses.increment();
+
+        TaskPage page = compute.get();
+        int pageWeight = page.getItems().size() + 1;
+        if (pageWeight <= properties.getMaxWeight()) {
+            put(key, new Entry(version, page, pageWeight));
+        }
+        return page;
+    }
+
+    private void put(Key key, Entry entry) {
+        lock.lock();
+        try {
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                weight -= previous.weight();
+            }
+            weight += entry.weight();
+
+            Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+            while (entries.size() > properties.getMaxEntries() || weight > properties.getMaxWeight()) {
+                Map.Entry<Key, Entry> evicted = eldest.next();
+                weight -= evicted.getValue().weight();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        entries.remove(key);
+        weight -= entry.weight();
+    }
+}
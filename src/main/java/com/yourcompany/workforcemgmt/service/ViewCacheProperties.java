@@ -0,0 +1,29 @@
+package com.yourcompany.workforcemgmt.service;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the list view result cache, bound from "view-cache.*"
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "view-cache")
+public class ViewCacheProperties {
+
+    /**
+     * Computes every list page afresh when false
+     */
+    private boolean enabled = true;
+
+    /**
+     * Most pages kept at once
+     */
+    private int maxEntries = 1024;
+
+    /**
+     * Most task summaries kept across all pages; a page larger than this is never cached
+     */
+    private long maxWeight = 100_000;
+}
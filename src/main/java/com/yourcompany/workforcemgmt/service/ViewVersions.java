@@ -0,0 +1,119 @@
+package com.yourcompany.workforcemgmt.service;
+
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Change counters for the task list views
+ *
+ * There is one counter per staff member, one per priority and one for
+ * every view together. TaskService reports each changed task with the
+ * staff member and priority it had before and after the change. The counters
+ * only grow, and each is bumped after the change is made, so a reader that
+ * sees a count sees at least the changes it counts. Equal counts mean the
+ * view's content has not changed.
+ *
+ * The date-range view up to a given day only changes when a task starting
+ * on or before that day changes. Each change stamps its task's start day
+ * with the new global count, and the version of a range is the highest
+ * stamp at or before its end day. A new stamp supersedes every lower stamp
+ * on a later day, so those are dropped after it is made. The stamps left
+ * increase with the day, and are few, since a change on any day drops
+ * every later one. Writers take no lock: a stamp is only dropped while a
+ * stamp at least as high sits on an earlier day, so concurrent changes can
+ * at worst leave a superseded stamp behind, never hide a change.
+ */
+@Component
+public class ViewVersions {
+
+    private final AtomicLong global = new AtomicLong();
+    private final ConcurrentHashMap<String, AtomicLong> byStaff = new ConcurrentHashMap<>();
+    private final Map<TaskPriority, AtomicLong> byPriority = new EnumMap<>(TaskPriority.class);
+    private final ConcurrentSkipListMap<LocalDate, Long> byStartDay = new ConcurrentSkipListMap<>();
+
+    public ViewVersions() {
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, new AtomicLong());
+        }
+    }
+
+    /**
+     * Record a change to a task, in every view that shows it
+     *
+     * @param task the task after the change
+     */
+    public void changed(Task task) {
+        LocalDate startDay = Timestamps.toDate(task.getStartDate());
+        if (startDay == null) {
+            changed(task.getAssignedStaffId(), task.getPriority());
+            return;
+        }
+        long version = changed(task.getAssignedStaffId(), task.getPriority());
+        byStartDay.merge(startDay, version, Math::max);
+        for (Map.Entry<LocalDate, Long> later : byStartDay.tailMap(startDay, false).entrySet()) {
+            if (later.getValue() <= version) {
+                byStartDay.remove(later.getKey(), later.getValue());
+            }
+        }
+    }
+
+    /**
+     * Record a change to a task shown in the given staff member's and priority's views
+     *
+     * @param staffId the task's assigned staff member, or null
+     * @param priority the task's priority, or null
+     * @return the new global version
+     */
+    public long changed(String staffId, TaskPriority priority) {
+        if (staffId != null) {
+            byStaff.computeIfAbsent(staffId, id -> new AtomicLong()).incrementAndGet();
+        }
+        if (priority != null) {
+            byPriority.get(priority).incrementAndGet();
+        }
+        return global.incrementAndGet();
+    }
+
+    /**
+     * @return version of the views spanning all tasks
+     */
+    public long global() {
+        return global.get();
+    }
+
+    /**
+     * @return version of a staff member's task list
+     */
+    public long staff(String staffId) {
+        AtomicLong version = byStaff.get(staffId);
+        return version != null ? version.get() : 0;
+    }
+
+    /**
+     * @param endDay last start day the view covers
+     * @return version of every date-range view ending on the given day
+     */
+    public long dateRange(LocalDate endDay) {
+        long version = 0;
+        for (long stamp : byStartDay.headMap(endDay, true).values()) {
+            version = Math.max(version, stamp);
+        }
+        return version;
+    }
+
+    /**
+     * @return version of the task list at a priority
+     */
+    public long priority(TaskPriority priority) {
+        return byPriority.get(priority).get();
+    }
+}
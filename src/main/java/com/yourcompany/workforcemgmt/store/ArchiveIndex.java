@@ -0,0 +1,141 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.TaskId;
+
+import java.util.function.Consumer;
+
+/**
+ * Open-addressing hash table from task ID to archive location
+ *
+ * Keys are the two longs of the ID and values a packed location, all held
+ * in primitive arrays, so an archived task costs about 48 bytes here and
+ * no objects for the collector to trace. Linear probing, resized at half
+ * full; removal shifts later entries of the same run back, so lookups
+ * never need tombstones.
+ *
+ * Not thread-safe; the archive guards it with a read-write lock.
+ */
+final class ArchiveIndex {
+
+    static final long ABSENT = -1;
+    private static final long EMPTY = 0;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    // keys[2i] and keys[2i + 1] are the ID of slot i; values[i] is EMPTY for a free slot
+    private long[] keys = new long[2 * INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int mask = INITIAL_CAPACITY - 1;
+    private int size;
+
+    /**
+     * @return the location stored for the ID, or {@link #ABSENT}
+     */
+    long get(TaskId id) {
+        for (int slot = slotOf(id.high(), id.low()); values[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys[2 * slot] == id.high() && keys[2 * slot + 1] == id.low()) {
+                return values[slot];
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Store a location, replacing any earlier one for the ID
+     *
+     * @param location a positive location
+     */
+    void put(TaskId id, long location) {
+        if (2 * (size + 1) > values.length) {
+            resize(values.length * 2);
+        }
+        insert(id.high(), id.low(), location);
+    }
+
+    /**
+     * @return whether the ID was present
+     */
+    boolean remove(TaskId id) {
+        int slot = slotOf(id.high(), id.low());
+        while (values[slot] != EMPTY) {
+            if (keys[2 * slot] == id.high() && keys[2 * slot + 1] == id.low()) {
+                shiftBack(slot);
+                size--;
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Visit every ID in no particular order
+     */
+    void forEachId(Consumer<TaskId> action) {
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != EMPTY) {
+                action.accept(new TaskId(keys[2 * slot], keys[2 * slot + 1]));
+            }
+        }
+    }
+
+    private void insert(long high, long low, long location) {
+        int slot = slotOf(high, low);
+        while (values[slot] != EMPTY) {
+            if (keys[2 * slot] == high && keys[2 * slot + 1] == low) {
+                values[slot] = location;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[2 * slot] = high;
+        keys[2 * slot + 1] = low;
+        values[slot] = location;
+        size++;
+    }
+
+    /**
+     * Empty a slot, moving back any later entry of the run that probed past it
+     */
+    private void shiftBack(int free) {
+        int slot = free;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (values[slot] == EMPTY) {
+                break;
+            }
+            int home = slotOf(keys[2 * slot], keys[2 * slot + 1]);
+            // Movable when its home is no later than the free slot, counting along the probe run
+            if (((slot - home) & mask) >= ((slot - free) & mask)) {
+                keys[2 * free] = keys[2 * slot];
+                keys[2 * free + 1] = keys[2 * slot + 1];
+                values[free] = values[slot];
+                free = slot;
+            }
+        }
+        values[free] = EMPTY;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[2 * capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        size = 0;
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] != EMPTY) {
+                insert(oldKeys[2 * slot], oldKeys[2 * slot + 1], oldValues[slot]);
+            }
+        }
+    }
+
+    private int slotOf(long high, long low) {
+        long hash = (high * 0x9E3779B97F4A7C15L) ^ low;
+        hash *= 0xC2B2AE3D27D4EB4FL;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
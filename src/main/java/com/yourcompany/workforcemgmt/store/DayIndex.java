@@ -0,0 +1,78 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.TaskId;
+
+import java.time.LocalDate;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Navigable index of task IDs bucketed by calendar day
+ *
+ * Backed by a ConcurrentSkipListMap so range lookups cost O(log days) to
+ * find the first bucket plus the size of the buckets returned. Buckets are
+ * sorted sets, so results come out ordered by (day, task ID) and can be
+ * resumed from a {@link TaskCursor}. Empty buckets are left in place; their
+ * number is bounded by distinct days.
+ */
+class DayIndex {
+
+    private final ConcurrentSkipListMap<LocalDate, NavigableSet<TaskId>> days = new ConcurrentSkipListMap<>();
+    private final LongAdder entries = new LongAdder();
+
+    void add(LocalDate day, TaskId id) {
+        if (days.computeIfAbsent(day, d -> new ConcurrentSkipListSet<>()).add(id)) {
+            entries.increment();
+        }
+    }
+
+    void remove(LocalDate day, TaskId id) {
+        NavigableSet<TaskId> ids = days.get(day);
+        if (ids != null && ids.remove(id)) {
+            entries.decrement();
+        }
+    }
+
+    /**
+     * @return number of IDs across all day buckets
+     */
+    long size() {
+        return entries.sum();
+    }
+
+    /**
+     * @return IDs on days between from and to, both inclusive, positioned after the cursor
+     */
+    Stream<TaskId> between(LocalDate from, LocalDate to, TaskCursor after) {
+        LocalDate lower = after != null && after.day().isAfter(from) ? after.day() : from;
+        if (lower.isAfter(to)) {
+            return Stream.empty();
+        }
+        return slice(days.subMap(lower, true, to, true), after);
+    }
+
+    /**
+     * @return IDs on days strictly before the given day, positioned after the cursor
+     */
+    Stream<TaskId> before(LocalDate day, TaskCursor after) {
+        if (after != null && !after.day().isBefore(day)) {
+            return Stream.empty();
+        }
+        NavigableMap<LocalDate, NavigableSet<TaskId>> range = days.headMap(day, false);
+        if (after != null) {
+            range = range.tailMap(after.day(), true);
+        }
+        return slice(range, after);
+    }
+
+    private static Stream<TaskId> slice(NavigableMap<LocalDate, NavigableSet<TaskId>> range, TaskCursor after) {
+        return range.entrySet().stream()
+                .flatMap(bucket -> after != null && bucket.getKey().equals(after.day())
+                        ? bucket.getValue().tailSet(after.id(), false).stream()
+                        : bucket.getValue().stream());
+    }
+}
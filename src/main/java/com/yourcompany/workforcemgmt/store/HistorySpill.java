@@ -0,0 +1,154 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import com.yourcompany.workforcemgmt.model.ActivityLog;
+import com.yourcompany.workforcemgmt.model.AppendOnlyLog;
+import com.yourcompany.workforcemgmt.model.Comment;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.model.Timestamped;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Bounds the activity history and comments each task keeps in memory
+ *
+ * The store hands a task here after every save and update, and a
+ * {@link SnapshotTask}'s logs as soon as they are decoded, so a task read
+ * after a restart is bounded again without waiting for a write; snapshots
+ * and the archive carry full histories. A log holding more than twice the
+ * configured number of entries in memory has all but that many of them
+ * appended to the task's {@link SpillFile} as one block, and
+ * then {@link AppendOnlyLog#spill spilled}, so the heap keeps a tail of
+ * between one and two times the setting per log and a long-lived task
+ * costs a few index entries per block beyond that. Reads of older entries
+ * go to the file, so the API is unchanged apart from what it costs.
+ *
+ * Spilling is best effort: if a block cannot be written its entries stay
+ * in memory and the next update tries again.
+ */
+@Component
+public class HistorySpill {
+
+    private static final Logger log = LoggerFactory.getLogger(HistorySpill.class);
+    private static final String HISTORY_SUFFIX = ".history";
+    private static final String COMMENTS_SUFFIX = ".comments";
+
+    private final InMemoryTaskStore store;
+    private final TaskHistoryProperties properties;
+    private final Path directory;
+    private final LongAdder spilledEntries = new LongAdder();
+    private final LongAdder spilledBytes = new LongAdder();
+    private final LongAdder blocksRead = new LongAdder();
+
+    public HistorySpill(InMemoryTaskStore store, TaskHistoryProperties properties, MetricsRegistry metrics) {
+        if (properties.getResidentEntries() < 1) {
+            throw new IllegalArgumentException("task-history.resident-entries must be positive");
+        }
+        this.store = store;
+        this.properties = properties;
+        this.directory = Path.of(properties.getDirectory());
+        metrics.gauge("workforce_history_spilled_entries", "History entries and comments moved from memory to disk",
+                null, () -> MetricsRegistry.single(spilledEntries.sum()));
+        metrics.gauge("workforce_history_spilled_bytes", "Compressed bytes written to history spill files", null,
+                () -> MetricsRegistry.single(spilledBytes.sum()));
+        metrics.gauge("workforce_history_blocks_read", "Spilled blocks read back from disk", null,
+                () -> MetricsRegistry.single(blocksRead.sum()));
+    }
+
+    /**
+     * Clear the files of the previous run and start spilling
+     */
+    @PostConstruct
+    void start() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(HISTORY_SUFFIX) || name.endsWith(COMMENTS_SUFFIX)) {
+                    Files.delete(file);
+                }
+            }
+        }
+        store.attachHistorySpill(this);
+    }
+
+    /**
+     * Spill the older part of a task's logs that have outgrown their tail; called with the task's stripe held
+     */
+    void trim(Task task) {
+        if (task instanceof SnapshotTask loaded && !loaded.isMaterialized()) {
+            // Its logs are not in memory yet
+            return;
+        }
+        trim(task.getId(), task.getActivityHistory(), task.getComments());
+    }
+
+    /**
+     * Spill the older part of a task's logs; called with the task's stripe held or before the logs are published
+     */
+    void trim(TaskId id, AppendOnlyLog<ActivityLog> history, AppendOnlyLog<Comment> comments) {
+        trim(id, HISTORY_SUFFIX, history, TaskCodec::writeActivity, TaskCodec::readActivity);
+        trim(id, COMMENTS_SUFFIX, comments, TaskCodec::writeComment, TaskCodec::readComment);
+    }
+
+    /**
+     * Delete the spill files of a task that has left memory; called with the task's stripe held
+     */
+    void discard(Task task) {
+        if (task instanceof SnapshotTask loaded && !loaded.isMaterialized()) {
+            return;
+        }
+        discard(task.getActivityHistory());
+        discard(task.getComments());
+    }
+
+    private <E extends Timestamped> void trim(TaskId id, String suffix, AppendOnlyLog<E> entries,
+                                              SpillFile.Writer<E> writer, SpillFile.Reader<E> reader) {
+        int size = entries.size();
+        int spilled = entries.spilledCount();
+        int keep = properties.getResidentEntries();
+        if (size - spilled <= 2 * keep) {
+            return;
+        }
+        SpillFile<E> file = entries.spilledEntries() instanceof SpillFile<E> existing
+                ? existing
+                : new SpillFile<>(directory.resolve(id + suffix), writer, reader, blocksRead);
+        int to = size - keep;
+        List<E> block = new ArrayList<>(to - spilled);
+        for (int i = spilled; i < to; i++) {
+            block.add(entries.get(i));
+        }
+        try {
+            spilledBytes.add(file.append(block));
+        } catch (IOException e) {
+            log.warn("event=HISTORY_SPILL_FAILED task={} file={}", id, file.file(), e);
+            return;
+        }
+        entries.spill(to, file);
+        spilledEntries.add(block.size());
+    }
+
+    private void discard(AppendOnlyLog<?> entries) {
+        if (entries.spilledEntries() instanceof SpillFile<?> file) {
+            try {
+                Files.deleteIfExists(file.file());
+            } catch (IOException e) {
+                log.warn("event=HISTORY_DISCARD_FAILED file={}", file.file(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,502 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.ActivityLog;
+import com.yourcompany.workforcemgmt.model.AppendOnlyLog;
+import com.yourcompany.workforcemgmt.model.Comment;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Concurrent in-memory task store with secondary indexes
+ *
+ * Tasks live in a ConcurrentHashMap keyed by {@link TaskId}, and every
+ * index holds the task's own TaskId instance, so an index entry costs a
+ * reference rather than a copy of a 36-character string. IDs given as text
+ * are parsed once at the API boundary; text that is not a valid ID simply
+ * matches no task.
+ *
+ * Each write holds the task's {@link StripedLocks stripe}, so a task and
+ * its index entries are updated together and concurrent writers to the
+ * same task are serialized, while writers to other tasks mostly proceed in
+ * parallel. Reads take no lock. Index reads re-check the current task
+ * field, which hides the short window where an ID is moving from one index
+ * bucket to another.
+ *
+ * Index buckets are sorted sets of IDs, which gives every view a stable
+ * order and lets a page resume with a tailSet lookup instead of skipping
+ * over earlier rows.
+ *
+ * For the smart daily view, two day indexes are kept on the start date:
+ * one with every non-cancelled task, and one with only ACTIVE tasks, so
+ * "started in range" and "started earlier but still active" are both
+ * answered from navigable ranges rather than a scan.
+ *
+ * With a {@link TaskArchive} attached, {@link #archive} moves old tasks
+ * out of the map and indexes into it, under their stripe, archive first so
+ * a reader missing the map always finds the archived copy. findById falls
+ * back to the archive and returns a detached copy; update restores the
+ * task into the map before applying the mutation.
+ *
+ * With a {@link HistorySpill} attached, every save and update ends by
+ * letting it move the older part of the task's history and comments to
+ * disk, still under the stripe, and a {@link SnapshotTask} has its logs
+ * trimmed as they are decoded, so tasks that are only ever read stay
+ * bounded too.
+ */
+@Component
+public class InMemoryTaskStore implements TaskStore {
+
+    /**
+     * Write locks; well above the number of request threads, so writers to different tasks rarely collide
+     */
+    public static final int DEFAULT_STRIPES = 256;
+
+    private final ConcurrentHashMap<TaskId, Task> tasks = new ConcurrentHashMap<>();
+    private final StripedLocks locks;
+
+    // Secondary indexes: key -> IDs of tasks currently holding that value
+    private final ConcurrentHashMap<String, NavigableSet<TaskId>> byStaffId = new ConcurrentHashMap<>();
+    private final Map<TaskPriority, NavigableSet<TaskId>> byPriority = new EnumMap<>(TaskPriority.class);
+    private final Map<TaskStatus, NavigableSet<TaskId>> byStatus = new EnumMap<>(TaskStatus.class);
+    private final NavigableSet<TaskId> openIds = new ConcurrentSkipListSet<>();
+    private final DayIndex openByStartDay = new DayIndex();
+    private final DayIndex activeByStartDay = new DayIndex();
+
+    // Entry counters kept alongside the indexes, since skip-list sizes are O(n) to compute
+    private final Map<TaskStatus, LongAdder> statusCounts = new EnumMap<>(TaskStatus.class);
+    private final LongAdder staffEntries = new LongAdder();
+    private final LongAdder priorityEntries = new LongAdder();
+    private final LongAdder openEntries = new LongAdder();
+    private final WorkloadCounters workload = new WorkloadCounters();
+    private final LongAdder restored = new LongAdder();
+    private volatile TaskArchive archive;
+    private volatile HistorySpill historySpill;
+
+    public InMemoryTaskStore() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripes number of write locks shared among tasks; 1 serializes all writes
+     */
+    public InMemoryTaskStore(int stripes) {
+        this.locks = new StripedLocks(stripes);
+        // Enum buckets are created up front so the EnumMaps are never written after construction
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, new ConcurrentSkipListSet<>());
+        }
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListSet<>());
+            statusCounts.put(status, new LongAdder());
+        }
+    }
+
+    @Override
+    public Task findById(String id) {
+        TaskId key = TaskId.tryParse(id);
+        return key != null ? findById(key) : null;
+    }
+
+    public Task findById(TaskId id) {
+        Task task = tasks.get(id);
+        TaskArchive cold = archive;
+        if (task != null || cold == null) {
+            return task;
+        }
+        Task archived = cold.read(id);
+        // A writer may have restored it between the two lookups
+        Task current = tasks.get(id);
+        return current != null ? current : archived;
+    }
+
+    /**
+     * @return whether a task is held in memory, rather than only in the archive or not at all
+     */
+    boolean isResident(TaskId id) {
+        return tasks.containsKey(id);
+    }
+
+    @Override
+    public void save(Task task) {
+        TaskId id = task.getId();
+        ReentrantLock lock = locks.lockFor(id);
+        lock.lock();
+        try {
+            Task existing = tasks.put(id, task);
+            if (existing != null) {
+                unindex(id, IndexKeys.of(existing));
+            }
+            index(id, IndexKeys.of(task));
+            HistorySpill spill = historySpill;
+            if (spill != null) {
+                spill.trim(task);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Task update(String id, Consumer<Task> mutation) {
+        TaskId key = TaskId.tryParse(id);
+        return key != null ? update(key, mutation) : null;
+    }
+
+    public Task update(TaskId id, Consumer<Task> mutation) {
+        ReentrantLock lock = locks.lockFor(id);
+        lock.lock();
+        try {
+            Task task = tasks.get(id);
+            if (task == null) {
+                task = restore(id);
+                if (task == null) {
+                    return null;
+                }
+            }
+            IndexKeys before = IndexKeys.of(task);
+            mutation.accept(task);
+            IndexKeys after = IndexKeys.of(task);
+            if (!before.equals(after)) {
+                unindex(id, before);
+                index(id, after);
+            }
+            HistorySpill spill = historySpill;
+            if (spill != null) {
+                spill.trim(task);
+            }
+            return task;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Task> batch) {
+        for (Task task : batch) {
+            save(task);
+        }
+    }
+
+    @Override
+    public List<Task> updateAll(List<String> ids, BiConsumer<Integer, Task> mutation) {
+        List<Task> updated = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            int index = i;
+            updated.add(ids.get(i) == null ? null : update(ids.get(i), task -> mutation.accept(index, task)));
+        }
+        return updated;
+    }
+
+    @Override
+    public Stream<Task> findAll() {
+        return tasks.values().stream();
+    }
+
+    @Override
+    public Stream<Task> findOpen(TaskCursor after) {
+        return resolve(tail(openIds, after), task -> task.getStatus() != TaskStatus.CANCELLED);
+    }
+
+    @Override
+    public Stream<Task> findByAssignedStaffId(String staffId, TaskCursor after) {
+        NavigableSet<TaskId> ids = byStaffId.get(staffId);
+        if (ids == null) {
+            return Stream.empty();
+        }
+        return resolve(tail(ids, after), task -> staffId.equals(task.getAssignedStaffId()));
+    }
+
+    @Override
+    public Stream<Task> findByPriority(TaskPriority priority, TaskCursor after) {
+        return resolve(tail(byPriority.get(priority), after), task -> task.getPriority() == priority);
+    }
+
+    @Override
+    public Stream<Task> findByStatus(TaskStatus status, TaskCursor after) {
+        return resolve(tail(byStatus.get(status), after), task -> task.getStatus() == status);
+    }
+
+    @Override
+    public Stream<Task> findOpenStartingBetween(LocalDate from, LocalDate to, TaskCursor after) {
+        return resolve(openByStartDay.between(from, to, after), task -> {
+            LocalDate day = startDayOf(task);
+            return task.getStatus() != TaskStatus.CANCELLED && day != null
+                    && !day.isBefore(from) && !day.isAfter(to);
+        });
+    }
+
+    @Override
+    public Stream<Task> findActiveStartingBefore(LocalDate day, TaskCursor after) {
+        return resolve(activeByStartDay.before(day, after), task -> {
+            LocalDate startDay = startDayOf(task);
+            return task.getStatus() == TaskStatus.ACTIVE && startDay != null && startDay.isBefore(day);
+        });
+    }
+
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, WorkloadCounts> workloadByStaff() {
+        return workload.snapshot(Timestamps.now());
+    }
+
+    @Override
+    public long countByStaff(String staffId, TaskStatus status) {
+        return workload.count(staffId, status);
+    }
+
+    @Override
+    public Map<String, Long> indexSizes() {
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        sizes.put("staff", staffEntries.sum());
+        sizes.put("staff_keys", (long) byStaffId.size());
+        sizes.put("priority", priorityEntries.sum());
+        sizes.put("status", statusCounts.values().stream().mapToLong(LongAdder::sum).sum());
+        sizes.put("open", openEntries.sum());
+        sizes.put("open_by_start_day", openByStartDay.size());
+        sizes.put("active_by_start_day", activeByStartDay.size());
+        TaskArchive cold = archive;
+        if (cold != null) {
+            sizes.put("archived", (long) cold.size());
+        }
+        return sizes;
+    }
+
+    @Override
+    public int archive(long updatedBefore, Set<TaskStatus> statuses, Consumer<Task> archived) {
+        TaskArchive cold = archive;
+        if (cold == null) {
+            return 0;
+        }
+        int count = 0;
+        for (TaskStatus status : statuses) {
+            for (TaskId id : byStatus.get(status)) {
+                Task task = tasks.get(id);
+                if (task == null || task.getUpdatedAt() >= updatedBefore) {
+                    continue;
+                }
+                ReentrantLock lock = locks.lockFor(id);
+                lock.lock();
+                try {
+                    task = tasks.get(id);
+                    if (task == null || !statuses.contains(task.getStatus()) || task.getUpdatedAt() >= updatedBefore) {
+                        continue;
+                    }
+                    cold.append(task);
+                    tasks.remove(id);
+                    unindex(id, IndexKeys.of(task));
+                    discardSpill(task);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot archive task " + id, e);
+                } finally {
+                    lock.unlock();
+                }
+                archived.accept(task);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Serve tasks missing from memory from an archive; attached once, before the store is used
+     */
+    void attachArchive(TaskArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Bound the history and comments kept in memory from now on; attached once, at startup
+     */
+    void attachHistorySpill(HistorySpill spill) {
+        this.historySpill = spill;
+    }
+
+    /**
+     * Spill the older part of a snapshot task's logs as they are decoded, before any other thread can see them
+     */
+    void trimLoaded(TaskId id, AppendOnlyLog<ActivityLog> history, AppendOnlyLog<Comment> comments) {
+        HistorySpill spill = historySpill;
+        if (spill != null) {
+            spill.trim(id, history, comments);
+        }
+    }
+
+    /**
+     * Settle tasks held both in memory and in the archive, which a restart reloads from the snapshot and journal
+     *
+     * The copy updated last wins: an archived copy at least as recent
+     * replaces the one in memory, and an older one is forgotten.
+     *
+     * @return number of tasks left in the archive only
+     */
+    int reconcileArchive() {
+        TaskArchive cold = archive;
+        int dropped = 0;
+        for (TaskId id : tasks.keySet()) {
+            if (!cold.contains(id)) {
+                continue;
+            }
+            ReentrantLock lock = locks.lockFor(id);
+            lock.lock();
+            try {
+                Task task = tasks.get(id);
+                if (cold.updatedAt(id) >= task.getUpdatedAt()) {
+                    tasks.remove(id);
+                    unindex(id, IndexKeys.of(task));
+                    discardSpill(task);
+                    dropped++;
+                } else {
+                    cold.forget(id);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * @return number of archived tasks brought back into memory by an update
+     */
+    long restoredCount() {
+        return restored.sum();
+    }
+
+    /**
+     * Bring an archived task back into memory; called with its stripe held
+     *
+     * @return the restored task, or null if it is not archived either
+     */
+    private Task restore(TaskId id) {
+        TaskArchive cold = archive;
+        Task task = cold != null ? cold.read(id) : null;
+        if (task == null) {
+            return null;
+        }
+        tasks.put(id, task);
+        index(id, IndexKeys.of(task));
+        cold.forget(id);
+        restored.increment();
+        return task;
+    }
+
+    private void discardSpill(Task task) {
+        HistorySpill spill = historySpill;
+        if (spill != null) {
+            spill.discard(task);
+        }
+    }
+
+    private static Stream<TaskId> tail(NavigableSet<TaskId> ids, TaskCursor after) {
+        return after == null ? ids.stream() : ids.tailSet(after.id(), false).stream();
+    }
+
+    /**
+     * Turn a sequence of indexed IDs into tasks, dropping entries that no longer match
+     */
+    private Stream<Task> resolve(Stream<TaskId> ids, Predicate<Task> stillMatches) {
+        return ids
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .filter(stillMatches);
+    }
+
+    private void index(TaskId id, IndexKeys keys) {
+        if (keys.staffId() != null
+                && byStaffId.computeIfAbsent(keys.staffId(), k -> new ConcurrentSkipListSet<>()).add(id)) {
+            staffEntries.increment();
+        }
+        if (keys.priority() != null && byPriority.get(keys.priority()).add(id)) {
+            priorityEntries.increment();
+        }
+        if (keys.status() != null && byStatus.get(keys.status()).add(id)) {
+            statusCounts.get(keys.status()).increment();
+        }
+        if (keys.status() != TaskStatus.CANCELLED && openIds.add(id)) {
+            openEntries.increment();
+        }
+        if (keys.startDay() != null) {
+            if (keys.status() != TaskStatus.CANCELLED) {
+                openByStartDay.add(keys.startDay(), id);
+            }
+            if (keys.status() == TaskStatus.ACTIVE) {
+                activeByStartDay.add(keys.startDay(), id);
+            }
+        }
+        workload.add(keys.staffId(), keys.status(), keys.priority(), keys.dueDate());
+    }
+
+    private void unindex(TaskId id, IndexKeys keys) {
+        if (keys.staffId() != null) {
+            NavigableSet<TaskId> ids = byStaffId.get(keys.staffId());
+            if (ids != null && ids.remove(id)) {
+                staffEntries.decrement();
+            }
+        }
+        if (keys.priority() != null && byPriority.get(keys.priority()).remove(id)) {
+            priorityEntries.decrement();
+        }
+        if (keys.status() != null && byStatus.get(keys.status()).remove(id)) {
+            statusCounts.get(keys.status()).decrement();
+        }
+        if (openIds.remove(id)) {
+            openEntries.decrement();
+        }
+        if (keys.startDay() != null) {
+            openByStartDay.remove(keys.startDay(), id);
+            activeByStartDay.remove(keys.startDay(), id);
+        }
+        workload.remove(keys.staffId(), keys.status(), keys.priority(), keys.dueDate());
+    }
+
+    private static LocalDate startDayOf(Task task) {
+        return Timestamps.toDate(task.getStartDate());
+    }
+
+    /**
+     * Snapshot of the indexed and counted fields of a task, taken before and after a mutation
+     */
+    private record IndexKeys(String staffId, TaskPriority priority, TaskStatus status, LocalDate startDay,
+                             long dueDate) {
+        static IndexKeys of(Task task) {
+            return new IndexKeys(task.getAssignedStaffId(), task.getPriority(), task.getStatus(), startDayOf(task),
+                    task.getDueDate());
+        }
+    }
+}
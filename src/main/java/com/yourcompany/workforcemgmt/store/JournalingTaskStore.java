@@ -0,0 +1,375 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Task store that survives restarts by journalling every write
+ *
+ * Reads go straight to the wrapped {@link InMemoryTaskStore}. Each write
+ * records the task's new scalar fields plus the history and comment entries
+ * it appended, from inside the same per-task lock that applies it, so
+ * records of one task reach the journal in the order they were applied.
+ * The caller then waits for the group fsync outside that lock; batch calls
+ * wait once, for their last record.
+ *
+ * On startup the latest {@link TaskSnapshot} is mapped and the journal
+ * written since is replayed on top, before the service can see the store.
+ * Tasks from the snapshot are only decoded in full when first used, so a
+ * restart costs little more than rebuilding the indexes. A background
+ * thread checkpoints, writing a new snapshot, once enough journal has
+ * accumulated, and once more on shutdown. Writes hold a shared lock only
+ * while being queued and applied, so the journal can be rotated at a point
+ * where no write is half done; the snapshot itself is written while writes
+ * continue, and tasks untouched since the last one are copied over as bytes.
+ *
+ * If the journal fails, writes are refused from then on and no further
+ * snapshot is taken. Writes already applied in memory when their record
+ * failed stay visible until a restart reloads the durable state.
+ *
+ * When archival is enabled the {@link TaskArchive} is opened before the
+ * snapshot is read, so journal records of archived tasks apply to their
+ * archived copies. Archived tasks still in the snapshot or journal are
+ * dropped from memory once replay is done, and left out of the next
+ * snapshot. Archiving runs under the checkpoint lock and syncs the archive
+ * before releasing it, so no snapshot can leave out a task whose archived
+ * copy is not yet durable.
+ */
+@Component
+@Primary
+// The history spill attaches to the store first, so tasks replayed with their full history are trimmed as they load
+@DependsOn("historySpill")
+@ConditionalOnProperty(prefix = "task-journal", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JournalingTaskStore implements TaskStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalingTaskStore.class);
+    private static final long CHECKPOINT_POLL_MILLIS = 1000;
+
+    private final InMemoryTaskStore delegate;
+    private final TaskJournalProperties properties;
+    private final Path snapshotFile;
+    private final TaskJournal journal;
+    private final TaskArchiveProperties archiveProperties;
+    private final ReentrantReadWriteLock rotation = new ReentrantReadWriteLock();
+    private final ReentrantLock checkpointing = new ReentrantLock();
+    private volatile TaskArchive archive;
+    private volatile boolean running;
+    private Thread checkpointer;
+
+    public JournalingTaskStore(InMemoryTaskStore delegate, TaskJournalProperties properties,
+                               TaskArchiveProperties archiveProperties, MetricsRegistry metrics) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.archiveProperties = archiveProperties;
+        this.snapshotFile = Path.of(properties.getDirectory()).resolve(TaskSnapshot.FILE_NAME);
+        this.journal = new TaskJournal(Path.of(properties.getDirectory()), properties.getSyncMode(),
+                properties.getSyncIntervalMillis(),
+                metrics.latency("workforce_journal_fsync_seconds", "Task journal fsync latency", "store", "tasks"),
+                metrics.distribution("workforce_journal_group_records",
+                        "Records covered by one journal write and fsync", "store", "tasks"));
+        metrics.gauge("workforce_journal_bytes_since_checkpoint", "Journal bytes a restart would replay", null,
+                () -> MetricsRegistry.single(journal.bytesSinceRotation()));
+        metrics.gauge("workforce_archived_tasks", "Tasks held in the on-disk archive rather than in memory", null,
+                () -> MetricsRegistry.single(archive != null ? archive.size() : 0));
+        metrics.gauge("workforce_archive_bytes", "Size of the archive segments, superseded copies included", null,
+                () -> MetricsRegistry.single(archive != null ? archive.bytes() : 0));
+        metrics.gauge("workforce_archive_reads", "Archived tasks decoded from disk since startup", null,
+                () -> MetricsRegistry.single(archive != null ? archive.reads() : 0));
+        metrics.gauge("workforce_archive_restores", "Archived tasks brought back into memory by an update", null,
+                () -> MetricsRegistry.single(delegate.restoredCount()));
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        long start = System.nanoTime();
+        if (archiveProperties.isEnabled()) {
+            archive = TaskArchive.open(Path.of(archiveProperties.getDirectory()), archiveProperties.getSegmentBytes());
+            delegate.attachArchive(archive);
+        }
+        long firstSegment = Files.exists(snapshotFile) ? TaskSnapshot.read(snapshotFile, delegate::save, delegate::trimLoaded)
+                : 0;
+        int fromSnapshot = delegate.size();
+        long records = journal.replay(firstSegment, record -> {
+            if (delegate.isResident(record.id())) {
+                delegate.update(record.id(), record::applyTo);
+            } else if (record.isFull() || delegate.update(record.id(), record::applyTo) == null) {
+                // A partial record of a task not in memory follows a restore, so it applies to the archived copy
+                delegate.save(record.toTask());
+            }
+        });
+        int archived = archive != null ? delegate.reconcileArchive() : 0;
+        journal.start();
+        log.info("Restored {} tasks from a snapshot of {} and {} journal records in {} ms", delegate.size(),
+                fromSnapshot, records, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        if (archive != null) {
+            log.info("Archive holds {} tasks, {} of them reloaded and dropped from memory", archive.size(), archived);
+        }
+
+        running = true;
+        checkpointer = new Thread(this::checkpointLoop, "task-journal-checkpointer");
+        checkpointer.setDaemon(true);
+        checkpointer.start();
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        running = false;
+        checkpointer.interrupt();
+        try {
+            checkpointer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!journal.isFailed() && journal.bytesSinceRotation() > 0) {
+            checkpoint();
+        }
+        journal.close();
+        if (archive != null) {
+            archive.close();
+        }
+    }
+
+    /**
+     * Rotate the journal and write a snapshot of the current store
+     */
+    public void checkpoint() throws IOException {
+        checkpointing.lock();
+        try {
+            long start = System.nanoTime();
+            CompletableFuture<Long> rotated;
+            rotation.writeLock().lock();
+            try {
+                rotated = journal.rotate();
+            } finally {
+                rotation.writeLock().unlock();
+            }
+            long firstSegment = await(rotated);
+            TaskSnapshot.write(snapshotFile, firstSegment, delegate.findAll());
+            journal.deleteSegmentsBefore(firstSegment);
+            log.info("Wrote snapshot of {} tasks in {} ms", delegate.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            checkpointing.unlock();
+        }
+    }
+
+    @Override
+    public Task findById(String id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public void save(Task task) {
+        await(write(task));
+    }
+
+    @Override
+    public Task update(String id, Consumer<Task> mutation) {
+        List<CompletableFuture<Long>> durable = new ArrayList<>(1);
+        Task updated = write(id, mutation, durable);
+        await(durable.isEmpty() ? null : durable.get(0));
+        return updated;
+    }
+
+    @Override
+    public void saveAll(Collection<Task> tasks) {
+        CompletableFuture<Long> last = null;
+        for (Task task : tasks) {
+            last = write(task);
+        }
+        // Records complete in queue order, so the last one covers the batch
+        await(last);
+    }
+
+    @Override
+    public List<Task> updateAll(List<String> ids, BiConsumer<Integer, Task> mutation) {
+        List<CompletableFuture<Long>> durable = new ArrayList<>(1);
+        List<Task> updated = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            int index = i;
+            updated.add(ids.get(i) == null ? null : write(ids.get(i), task -> mutation.accept(index, task), durable));
+        }
+        await(durable.isEmpty() ? null : durable.get(durable.size() - 1));
+        return updated;
+    }
+
+    @Override
+    public Stream<Task> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Stream<Task> findOpen(TaskCursor after) {
+        return delegate.findOpen(after);
+    }
+
+    @Override
+    public Stream<Task> findByAssignedStaffId(String staffId, TaskCursor after) {
+        return delegate.findByAssignedStaffId(staffId, after);
+    }
+
+    @Override
+    public Stream<Task> findByPriority(TaskPriority priority, TaskCursor after) {
+        return delegate.findByPriority(priority, after);
+    }
+
+    @Override
+    public Stream<Task> findByStatus(TaskStatus status, TaskCursor after) {
+        return delegate.findByStatus(status, after);
+    }
+
+    @Override
+    public Stream<Task> findOpenStartingBetween(LocalDate from, LocalDate to, TaskCursor after) {
+        return delegate.findOpenStartingBetween(from, to, after);
+    }
+
+    @Override
+    public Stream<Task> findActiveStartingBefore(LocalDate day, TaskCursor after) {
+        return delegate.findActiveStartingBefore(day, after);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public Map<TaskStatus, Long> countByStatus() {
+        return delegate.countByStatus();
+    }
+
+    @Override
+    public Map<String, WorkloadCounts> workloadByStaff() {
+        return delegate.workloadByStaff();
+    }
+
+    @Override
+    public long countByStaff(String staffId, TaskStatus status) {
+        return delegate.countByStaff(staffId, status);
+    }
+
+    @Override
+    public Map<String, Long> indexSizes() {
+        return delegate.indexSizes();
+    }
+
+    @Override
+    public int archive(long updatedBefore, Set<TaskStatus> statuses, Consumer<Task> archived) {
+        checkpointing.lock();
+        try {
+            int count = delegate.archive(updatedBefore, statuses, archived);
+            if (count > 0) {
+                archive.sync();
+            }
+            return count;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Task archive sync failed", e);
+        } finally {
+            checkpointing.unlock();
+        }
+    }
+
+    /**
+     * Journal and store a new task; the record is queued first since nobody can update the task before it is stored
+     */
+    private CompletableFuture<Long> write(Task task) {
+        rotation.readLock().lock();
+        try {
+            CompletableFuture<Long> durable = journal.append(TaskRecord.full(task));
+            delegate.save(task);
+            return durable;
+        } finally {
+            rotation.readLock().unlock();
+        }
+    }
+
+    /**
+     * Apply a mutation and journal its effect inside the store's per-task lock
+     *
+     * Every change to a stored task bumps its version, so a mutation that
+     * leaves the version alone changed nothing and is not journalled.
+     *
+     * @param durable receives the record's future, when there is one to wait for
+     */
+    private Task write(String id, Consumer<Task> mutation, List<CompletableFuture<Long>> durable) {
+        rotation.readLock().lock();
+        try {
+            // Checked up front, so a failed journal does not let the mutation reach memory first
+            journal.checkWritable();
+            return delegate.update(id, task -> {
+                long versionFrom = task.getVersion();
+                int historyFrom = task.getActivityHistory().size();
+                int commentsFrom = task.getComments().size();
+                mutation.accept(task);
+                if (task.getVersion() == versionFrom) {
+                    return;
+                }
+                CompletableFuture<Long> done = journal.append(TaskRecord.of(task, historyFrom, commentsFrom));
+                if (done != null) {
+                    durable.add(done);
+                }
+            });
+        } finally {
+            rotation.readLock().unlock();
+        }
+    }
+
+    private static long await(CompletableFuture<Long> durable) {
+        if (durable == null) {
+            return 0;
+        }
+        try {
+            return durable.join();
+        } catch (CompletionException e) {
+            throw new UncheckedIOException("Task journal write failed",
+                    e.getCause() instanceof IOException io ? io : new IOException(e.getCause()));
+        }
+    }
+
+    private void checkpointLoop() {
+        while (running) {
+            try {
+                Thread.sleep(CHECKPOINT_POLL_MILLIS);
+                if (journal.isFailed()) {
+                    return;
+                }
+                if (journal.bytesSinceRotation() >= properties.getCheckpointBytes()) {
+                    checkpoint();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.error("Task journal checkpoint failed", e);
+            }
+        }
+    }
+}
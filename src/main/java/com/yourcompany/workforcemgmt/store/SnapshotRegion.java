@@ -0,0 +1,86 @@
+package com.yourcompany.workforcemgmt.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read-only memory mapping of a snapshot file
+ *
+ * A single MappedByteBuffer is limited to 2GB, so the file is mapped in
+ * fixed-size chunks. The snapshot writer never lets a record or row cross
+ * a chunk boundary, so every read here lands inside one chunk. All reads
+ * are absolute and therefore safe from any thread.
+ *
+ * The mapping stays valid after the file is replaced by a newer snapshot,
+ * and is released once no task loaded from it is reachable.
+ */
+final class SnapshotRegion {
+
+    static final int CHUNK_BITS = 30;
+    static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+
+    private final MappedByteBuffer[] chunks;
+
+    private SnapshotRegion(MappedByteBuffer[] chunks) {
+        this.chunks = chunks;
+    }
+
+    static SnapshotRegion map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS)];
+            for (int i = 0; i < chunks.length; i++) {
+                long start = (long) i << CHUNK_BITS;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(CHUNK_SIZE, size - start));
+            }
+            return new SnapshotRegion(chunks);
+        }
+    }
+
+    byte getByte(long offset) {
+        return chunk(offset).get(position(offset));
+    }
+
+    int getInt(long offset) {
+        return chunk(offset).getInt(position(offset));
+    }
+
+    long getLong(long offset) {
+        return chunk(offset).getLong(position(offset));
+    }
+
+    /**
+     * Decode a length-prefixed string as written by {@link TaskCodec#writeString}
+     */
+    String getString(long offset) {
+        int length = getInt(offset);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        chunk(offset).get(position(offset) + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return a copy of the given bytes
+     */
+    byte[] getBytes(long offset, int length) {
+        byte[] bytes = new byte[length];
+        chunk(offset).get(position(offset), bytes);
+        return bytes;
+    }
+
+    private ByteBuffer chunk(long offset) {
+        return chunks[(int) (offset >>> CHUNK_BITS)];
+    }
+
+    private static int position(long offset) {
+        return (int) (offset & (CHUNK_SIZE - 1));
+    }
+}
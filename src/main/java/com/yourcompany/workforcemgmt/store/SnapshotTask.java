@@ -0,0 +1,171 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.ActivityLog;
+import com.yourcompany.workforcemgmt.model.AppendOnlyLog;
+import com.yourcompany.workforcemgmt.model.Comment;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Task loaded from a snapshot whose cold fields stay in the mapped file until read
+ *
+ * ID, title and the indexed fields are set when the snapshot is loaded.
+ * Description, creator, creation time, history and comments are decoded
+ * from the mapped record the first time one of them is read or written;
+ * list views therefore never decode them. The first read decodes while
+ * holding the task's monitor and concurrent first reads wait for it. The
+ * decoded history and comments go to a {@link LogsLoaded} hook before they
+ * are published, so it can spill the older entries of a long-lived task
+ * while no other thread can see them yet.
+ *
+ * An unmaterialized task is written to the next snapshot by copying its
+ * record bytes, so idle tasks are never decoded at all. Changing the title
+ * materializes the task first, because the copied record carries it.
+ */
+final class SnapshotTask extends Task {
+
+    /**
+     * Receives a task's history and comments as they are decoded, before they are published
+     */
+    @FunctionalInterface
+    interface LogsLoaded {
+        void loaded(TaskId id, AppendOnlyLog<ActivityLog> history, AppendOnlyLog<Comment> comments);
+    }
+
+    /**
+     * The fields kept out of memory until needed
+     */
+    private record Cold(String description, String createdBy, long createdAt,
+                        AppendOnlyLog<ActivityLog> history, AppendOnlyLog<Comment> comments) {
+    }
+
+    private final SnapshotRegion region;
+    private final long recordOffset;
+    private final int recordLength;
+    private final LogsLoaded logsLoaded;
+    private volatile Cold cold;
+
+    SnapshotTask(SnapshotRegion region, long recordOffset, int recordLength, LogsLoaded logsLoaded) {
+        this.region = region;
+        this.recordOffset = recordOffset;
+        this.recordLength = recordLength;
+        this.logsLoaded = logsLoaded;
+        // Every record starts with the ID and title
+        setId(new TaskId(region.getLong(recordOffset), region.getLong(recordOffset + Long.BYTES)));
+        super.setTitle(region.getString(recordOffset + 2 * Long.BYTES));
+    }
+
+    boolean isMaterialized() {
+        return cold != null;
+    }
+
+    /**
+     * @return the encoded record this task was loaded from
+     */
+    byte[] recordBytes() {
+        return region.getBytes(recordOffset, recordLength);
+    }
+
+    @Override
+    public String getDescription() {
+        return cold().description();
+    }
+
+    @Override
+    public void setDescription(String description) {
+        Cold current = cold();
+        cold = new Cold(description, current.createdBy(), current.createdAt(), current.history(), current.comments());
+    }
+
+    @Override
+    public String getCreatedBy() {
+        return cold().createdBy();
+    }
+
+    @Override
+    public void setCreatedBy(String createdBy) {
+        Cold current = cold();
+        cold = new Cold(current.description(), createdBy, current.createdAt(), current.history(), current.comments());
+    }
+
+    @Override
+    public long getCreatedAt() {
+        return cold().createdAt();
+    }
+
+    @Override
+    public void setCreatedAt(long createdAt) {
+        Cold current = cold();
+        cold = new Cold(current.description(), current.createdBy(), createdAt, current.history(), current.comments());
+    }
+
+    @Override
+    public AppendOnlyLog<ActivityLog> getActivityHistory() {
+        return cold().history();
+    }
+
+    @Override
+    public void setActivityHistory(AppendOnlyLog<ActivityLog> history) {
+        Cold current = cold();
+        cold = new Cold(current.description(), current.createdBy(), current.createdAt(), history, current.comments());
+    }
+
+    @Override
+    public AppendOnlyLog<Comment> getComments() {
+        return cold().comments();
+    }
+
+    @Override
+    public void setComments(AppendOnlyLog<Comment> comments) {
+        Cold current = cold();
+        cold = new Cold(current.description(), current.createdBy(), current.createdAt(), current.history(), comments);
+    }
+
+    @Override
+    public void setTitle(String title) {
+        cold();
+        super.setTitle(title);
+    }
+
+    // Lombok's equals/hashCode/toString read through the getters above, so they would materialize; use identity
+    @Override
+    public boolean equals(Object other) {
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotTask(id=" + getId() + ", materialized=" + isMaterialized() + ")";
+    }
+
+    private Cold cold() {
+        Cold current = cold;
+        return current != null ? current : load();
+    }
+
+    private synchronized Cold load() {
+        Cold current = cold;
+        if (current != null) {
+            return current;
+        }
+        TaskRecord record;
+        try {
+            record = TaskCodec.decode(recordBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read task " + getId() + " from snapshot", e);
+        }
+        AppendOnlyLog<ActivityLog> history = AppendOnlyLog.copyOf(record.history());
+        AppendOnlyLog<Comment> comments = AppendOnlyLog.copyOf(record.comments());
+        logsLoaded.loaded(getId(), history, comments);
+        cold = new Cold(record.description(), record.createdBy(), record.createdAt(), history, comments);
+        return cold;
+    }
+}
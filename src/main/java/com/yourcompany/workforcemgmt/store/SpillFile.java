@@ -0,0 +1,201 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.SpilledEntries;
+import com.yourcompany.workforcemgmt.model.Timestamped;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Spilled activity history or comments of one task, as deflated blocks in a file
+ *
+ * Each {@link #append} adds one block holding a run of entries encoded
+ * with {@link TaskCodec}. The block index, with the first position, first
+ * timestamp and file offset of each block, stays in memory and is replaced
+ * whole on every append, so readers take no lock: reading by position or
+ * by time is a binary search over the index, then inflating only the
+ * blocks concerned. A task costs one index entry per block.
+ *
+ * The file is scratch space. The journal and snapshots still hold every
+ * entry, so blocks are not synced and the files are cleared on startup.
+ * Appends to one file are serialized by the caller.
+ *
+ * @param <E> the entry type
+ */
+final class SpillFile<E extends Timestamped> implements SpilledEntries<E> {
+
+    @FunctionalInterface
+    interface Writer<E> {
+        void write(DataOutput out, E entry) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Reader<E> {
+        E read(DataInput in) throws IOException;
+    }
+
+    /**
+     * Index of the blocks written so far; block i spans entries starts[i] to the next start, or count
+     */
+    private record Blocks(int[] starts, long[] firstTimestamps, long[] offsets, int count, long end) {
+    }
+
+    private static final Blocks NONE = new Blocks(new int[0], new long[0], new long[0], 0, 0);
+
+    private final Path file;
+    private final Writer<E> writer;
+    private final Reader<E> reader;
+    private final LongAdder blocksRead;
+    private volatile Blocks blocks = NONE;
+
+    SpillFile(Path file, Writer<E> writer, Reader<E> reader, LongAdder blocksRead) {
+        this.file = file;
+        this.writer = writer;
+        this.reader = reader;
+        this.blocksRead = blocksRead;
+    }
+
+    /**
+     * Write the next entries as one block; they take the positions following those already spilled
+     *
+     * @return bytes written
+     */
+    long append(List<E> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * entries.size());
+        Deflater deflater = new Deflater();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            for (E entry : entries) {
+                writer.write(out, entry);
+            }
+        } finally {
+            deflater.end();
+        }
+
+        Blocks current = blocks;
+        ByteBuffer block = ByteBuffer.wrap(bytes.toByteArray());
+        // The first block replaces whatever an earlier run left under this name
+        try (FileChannel channel = current.count() == 0
+                ? FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)
+                : FileChannel.open(file, StandardOpenOption.WRITE)) {
+            long position = current.end();
+            while (block.hasRemaining()) {
+                position += channel.write(block, position);
+            }
+        }
+
+        int n = current.starts().length;
+        int[] starts = Arrays.copyOf(current.starts(), n + 1);
+        long[] firstTimestamps = Arrays.copyOf(current.firstTimestamps(), n + 1);
+        long[] offsets = Arrays.copyOf(current.offsets(), n + 1);
+        starts[n] = current.count();
+        firstTimestamps[n] = entries.get(0).getTimestamp();
+        offsets[n] = current.end();
+        blocks = new Blocks(starts, firstTimestamps, offsets, current.count() + entries.size(),
+                current.end() + block.capacity());
+        return block.capacity();
+    }
+
+    @Override
+    public List<E> read(int from, int to) {
+        Blocks current = blocks;
+        if (from < 0 || to > current.count() || from > to) {
+            throw new IndexOutOfBoundsException("Range " + from + " to " + to + " out of " + current.count());
+        }
+        List<E> entries = new ArrayList<>(to - from);
+        if (from == to) {
+            return entries;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int block = blockOf(current, from); entries.size() < to - from; block++) {
+                List<E> decoded = decode(channel, current, block);
+                int start = current.starts()[block];
+                for (int i = Math.max(from, start); i < Math.min(to, start + decoded.size()); i++) {
+                    entries.add(decoded.get(i - start));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read spilled entries from " + file, e);
+        }
+        return entries;
+    }
+
+    @Override
+    public int firstAfter(long timestamp) {
+        Blocks current = blocks;
+        // Last block starting at or before the timestamp; entries before it are all earlier
+        int low = 0;
+        int high = current.starts().length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (current.firstTimestamps()[mid] <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int block = low - 1;
+        if (block < 0) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<E> decoded = decode(channel, current, block);
+            for (int i = 0; i < decoded.size(); i++) {
+                if (decoded.get(i).getTimestamp() > timestamp) {
+                    return current.starts()[block] + i;
+                }
+            }
+            return current.starts()[block] + decoded.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read spilled entries from " + file, e);
+        }
+    }
+
+    Path file() {
+        return file;
+    }
+
+    private static int blockOf(Blocks blocks, int position) {
+        int index = Arrays.binarySearch(blocks.starts(), position);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private List<E> decode(FileChannel channel, Blocks blocks, int block) throws IOException {
+        int last = blocks.starts().length - 1;
+        long offset = blocks.offsets()[block];
+        long end = block < last ? blocks.offsets()[block + 1] : blocks.end();
+        int count = (block < last ? blocks.starts()[block + 1] : blocks.count()) - blocks.starts()[block];
+        ByteBuffer bytes = ByteBuffer.allocate((int) (end - offset));
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, offset + bytes.position()) < 0) {
+                throw new IOException("Spill file " + file + " is shorter than its index");
+            }
+        }
+        blocksRead.increment();
+        List<E> entries = new ArrayList<>(count);
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(
+                new ByteArrayInputStream(bytes.array())))) {
+            for (int i = 0; i < count; i++) {
+                entries.add(reader.read(in));
+            }
+        }
+        return entries;
+    }
+}
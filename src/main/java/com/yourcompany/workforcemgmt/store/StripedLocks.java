@@ -0,0 +1,46 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.TaskId;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed set of locks shared out among task IDs by hash
+ *
+ * Writers to the same task always take the same lock, so they are
+ * serialized, while writers to different tasks only wait for each other
+ * when their IDs land on the same stripe. With S stripes and W concurrent
+ * writers to random tasks, a writer finds its stripe taken with
+ * probability about W / S. One stripe gives a single global lock.
+ *
+ * No caller holds two stripes at once, so stripes cannot deadlock.
+ */
+final class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes number of locks, rounded up to a power of two
+     */
+    StripedLocks(int stripes) {
+        if (stripes < 1 || stripes > 1 << 16) {
+            throw new IllegalArgumentException("stripes must be between 1 and 65536");
+        }
+        int size = Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[Math.max(1, size)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = locks.length - 1;
+    }
+
+    /**
+     * @return the lock guarding the given task
+     */
+    ReentrantLock lockFor(TaskId id) {
+        // Record hash codes are not guaranteed to be well mixed in the low bits
+        int hash = id.hashCode();
+        return locks[(hash ^ hash >>> 16) & mask];
+    }
+}
@@ -0,0 +1,445 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Cold tier of tasks kept on disk, out of the heap
+ *
+ * Archived tasks are appended to numbered segment files, each as a
+ * deflated {@link TaskCodec} record behind a fixed header:
+ * <pre>
+ *   id high, id low, updatedAt    longs
+ *   raw length, stored length     ints
+ *   CRC32 of the stored bytes     int
+ * </pre>
+ * Only the current segment is written. Once it reaches the configured
+ * size it is fsynced and sealed with a sidecar ".idx" file listing the ID
+ * and offset of each entry, and a new segment is started. Segments are
+ * never rewritten, so a task archived again after being restored leaves
+ * its older copy behind; the latest copy is the one indexed.
+ *
+ * In memory there is only an {@link ArchiveIndex} from ID to segment and
+ * offset, and an open channel per segment. Opening reads the sealed
+ * segments' sidecars and scans the current segment entry by entry,
+ * cutting it at the first entry that is incomplete or fails its checksum,
+ * which is where a crash during an append leaves it.
+ *
+ * Appends are serialized; reads use positional I/O and may run from any
+ * thread alongside them.
+ */
+final class TaskArchive implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchive.class);
+
+    private static final String SEGMENT_PREFIX = "archive-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int HEADER_BYTES = 3 * Long.BYTES + 3 * Integer.BYTES;
+    private static final int INDEX_ENTRY_BYTES = 3 * Long.BYTES;
+    private static final int OFFSET_BITS = 40;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final Map<Integer, FileChannel> segments = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private final ArchiveIndex index = new ArchiveIndex();
+    private final LongAdder reads = new LongAdder();
+
+    // Current segment, guarded by appendLock
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+    private byte[] compressed = new byte[4096];
+    private FileChannel current;
+    private int currentSegment;
+    private long currentPosition;
+    private long[] currentEntries = new long[3 * 256];
+    private int currentEntryCount;
+
+    private TaskArchive(Path directory, long segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+    }
+
+    /**
+     * Open the archive in a directory, creating it if needed
+     *
+     * @param segmentBytes size at which a segment is sealed and the next one started
+     */
+    static TaskArchive open(Path directory, long segmentBytes) throws IOException {
+        Files.createDirectories(directory);
+        TaskArchive archive = new TaskArchive(directory, segmentBytes);
+        List<Integer> numbers = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> numbers.add(Integer.parseInt(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()))));
+        }
+        numbers.sort(null);
+        for (int number : numbers) {
+            FileChannel channel = FileChannel.open(archive.segmentFile(number), StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            archive.segments.put(number, channel);
+            if (Files.exists(archive.indexFile(number))) {
+                archive.loadSealed(number);
+            } else {
+                archive.recover(number, channel);
+            }
+        }
+        if (archive.current == null) {
+            archive.startSegment(numbers.isEmpty() ? 1 : numbers.get(numbers.size() - 1) + 1);
+        }
+        return archive;
+    }
+
+    /**
+     * Append a task, replacing any earlier archived copy; readable at once, durable after {@link #sync}
+     */
+    void append(Task task) throws IOException {
+        byte[] raw = TaskCodec.fullRecord(task);
+        appendLock.lock();
+        try {
+            deflater.reset();
+            deflater.setInput(raw);
+            deflater.finish();
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                }
+                length += deflater.deflate(compressed, length, compressed.length - length);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(compressed, 0, length);
+
+            TaskId id = task.getId();
+            header.clear();
+            header.putLong(id.high()).putLong(id.low()).putLong(task.getUpdatedAt())
+                    .putInt(raw.length).putInt(length).putInt((int) crc.getValue()).flip();
+            long offset = currentPosition;
+            writeFully(current, header, offset);
+            writeFully(current, ByteBuffer.wrap(compressed, 0, length), offset + HEADER_BYTES);
+            currentPosition = offset + HEADER_BYTES + length;
+            remember(id, offset);
+            put(id, location(currentSegment, offset));
+
+            if (currentPosition >= segmentBytes) {
+                seal();
+                startSegment(currentSegment + 1);
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Decode an archived task
+     *
+     * @return a new task object, not shared with any other caller, or null if the ID is not archived
+     */
+    Task read(TaskId id) {
+        long location = locate(id);
+        if (location == ArchiveIndex.ABSENT) {
+            return null;
+        }
+        try {
+            ByteBuffer entry = readHeader(location);
+            int rawLength = entry.getInt(3 * Long.BYTES);
+            int length = entry.getInt(3 * Long.BYTES + Integer.BYTES);
+            ByteBuffer stored = ByteBuffer.allocate(length);
+            readFully(segments.get(segmentOf(location)), stored, offsetOf(location) + HEADER_BYTES);
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(stored.array());
+                byte[] raw = new byte[rawLength];
+                if (inflater.inflate(raw) != rawLength) {
+                    throw new IOException("Archived task " + id + " is shorter than its header says");
+                }
+                reads.increment();
+                return TaskCodec.decode(raw).toTask();
+            } finally {
+                inflater.end();
+            }
+        } catch (IOException | DataFormatException e) {
+            throw new UncheckedIOException(new IOException("Cannot read archived task " + id, e));
+        }
+    }
+
+    /**
+     * @return the updatedAt of the archived copy, or Long.MIN_VALUE if the ID is not archived
+     */
+    long updatedAt(TaskId id) {
+        long location = locate(id);
+        if (location == ArchiveIndex.ABSENT) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return readHeader(location).getLong(2 * Long.BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    boolean contains(TaskId id) {
+        return locate(id) != ArchiveIndex.ABSENT;
+    }
+
+    /**
+     * Stop serving an ID, once the task is back in memory; its bytes stay in the segment
+     */
+    void forget(TaskId id) {
+        indexLock.writeLock().lock();
+        try {
+            index.remove(id);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return number of tasks served from the archive
+     */
+    int size() {
+        indexLock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return tasks decoded from the archive since it was opened
+     */
+    long reads() {
+        return reads.sum();
+    }
+
+    /**
+     * @return bytes in all segments, including superseded copies
+     */
+    long bytes() {
+        long bytes = 0;
+        for (FileChannel channel : segments.values()) {
+            try {
+                bytes += channel.size();
+            } catch (IOException e) {
+                // A closed channel counts as empty
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Make every append so far durable
+     */
+    void sync() throws IOException {
+        appendLock.lock();
+        try {
+            current.force(false);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            current.force(false);
+            deflater.end();
+            for (FileChannel channel : segments.values()) {
+                channel.close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private long locate(TaskId id) {
+        indexLock.readLock().lock();
+        try {
+            return index.get(id);
+        } finally {
+            indexLock.readLock().unlock();
+        }
+    }
+
+    private void put(TaskId id, long location) {
+        indexLock.writeLock().lock();
+        try {
+            index.put(id, location);
+        } finally {
+            indexLock.writeLock().unlock();
+        }
+    }
+
+    private ByteBuffer readHeader(long location) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(segments.get(segmentOf(location)), entry, offsetOf(location));
+        return entry;
+    }
+
+    /**
+     * Index a sealed segment from its sidecar
+     */
+    private void loadSealed(int number) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(indexFile(number)), 1 << 16))) {
+            long entries = Files.size(indexFile(number)) / INDEX_ENTRY_BYTES;
+            for (long i = 0; i < entries; i++) {
+                TaskId id = new TaskId(in.readLong(), in.readLong());
+                put(id, location(number, in.readLong()));
+            }
+        }
+    }
+
+    /**
+     * Index an unsealed segment by scanning it, and carry on appending to it
+     */
+    private void recover(int number, FileChannel channel) throws IOException {
+        // Only the newest segment can be unsealed after a crash; an older one is sealed now
+        if (current != null) {
+            seal();
+        }
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer entry = ByteBuffer.allocate(HEADER_BYTES);
+        CRC32 crc = new CRC32();
+        while (position + HEADER_BYTES <= size) {
+            entry.clear();
+            readFully(channel, entry, position);
+            int length = entry.getInt(3 * Long.BYTES + Integer.BYTES);
+            if (length < 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer stored = ByteBuffer.allocate(length);
+            readFully(channel, stored, position + HEADER_BYTES);
+            crc.reset();
+            crc.update(stored.array());
+            if ((int) crc.getValue() != entry.getInt(3 * Long.BYTES + 2 * Integer.BYTES)) {
+                break;
+            }
+            TaskId id = new TaskId(entry.getLong(0), entry.getLong(Long.BYTES));
+            put(id, location(number, position));
+            remember(id, position);
+            position += HEADER_BYTES + length;
+        }
+        if (position < size) {
+            log.warn("event=ARCHIVE_TRUNCATED segment={} from={} to={}", number, size, position);
+            channel.truncate(position);
+        }
+        current = channel;
+        currentSegment = number;
+        currentPosition = position;
+    }
+
+    private void startSegment(int number) throws IOException {
+        current = FileChannel.open(segmentFile(number), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        segments.put(number, current);
+        currentSegment = number;
+        currentPosition = 0;
+        currentEntryCount = 0;
+    }
+
+    /**
+     * Fsync the current segment and write its sidecar, which marks it complete
+     */
+    private void seal() throws IOException {
+        current.force(false);
+        Path temp = indexFile(currentSegment).resolveSibling(indexFile(currentSegment).getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel),
+                    1 << 16));
+            for (int i = 0; i < 3 * currentEntryCount; i++) {
+                out.writeLong(currentEntries[i]);
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, indexFile(currentSegment), StandardCopyOption.ATOMIC_MOVE);
+        currentEntryCount = 0;
+    }
+
+    private void remember(TaskId id, long offset) {
+        if (3 * (currentEntryCount + 1) > currentEntries.length) {
+            currentEntries = Arrays.copyOf(currentEntries, currentEntries.length * 2);
+        }
+        currentEntries[3 * currentEntryCount] = id.high();
+        currentEntries[3 * currentEntryCount + 1] = id.low();
+        currentEntries[3 * currentEntryCount + 2] = offset;
+        currentEntryCount++;
+    }
+
+    private Path segmentFile(int number) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private Path indexFile(int number) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, number, INDEX_SUFFIX));
+    }
+
+    private static long location(int segment, long offset) {
+        return (long) segment << OFFSET_BITS | offset;
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> OFFSET_BITS);
+    }
+
+    private static long offsetOf(long location) {
+        return location & ((1L << OFFSET_BITS) - 1);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Archive entry runs past the end of its segment");
+            }
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Settings for moving finished tasks to the on-disk archive, bound from "task-archive.*"
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "task-archive")
+public class TaskArchiveProperties {
+
+    /**
+     * Keeps every task in memory when false; the archive needs the journal enabled
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory holding archive segments
+     */
+    private String directory = "data/archive";
+
+    /**
+     * Time since a task's last update after which it is archived
+     */
+    private Duration minAge = Duration.ofDays(7);
+
+    /**
+     * Statuses a task must be in to be archived. List views and stats only
+     * read memory, so adding COMPLETED drops old completed tasks from them.
+     */
+    private Set<TaskStatus> statuses = EnumSet.of(TaskStatus.CANCELLED);
+
+    /**
+     * How often old tasks are looked for
+     */
+    private long sweepIntervalMillis = 600_000;
+
+    /**
+     * Size at which an archive segment is sealed and a new one started
+     */
+    private long segmentBytes = 64L * 1024 * 1024;
+}
@@ -0,0 +1,195 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.ActivityAction;
+import com.yourcompany.workforcemgmt.model.ActivityLog;
+import com.yourcompany.workforcemgmt.model.Comment;
+import com.yourcompany.workforcemgmt.model.StaffIds;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary encoding of {@link TaskRecord}s for the journal and snapshots
+ *
+ * Strings are length-prefixed UTF-8 with -1 for null. IDs are their two
+ * longs, times their primitive value (see Timestamps), and enums are
+ * written by ordinal, so the declaration order of TaskStatus, TaskPriority
+ * and ActivityAction is part of the format. Every record starts with the
+ * task ID followed by the title, which the snapshot relies on. Staff and
+ * user IDs are interned as they are read. FORMAT_VERSION must change with
+ * any incompatible change here.
+ */
+final class TaskCodec {
+
+    static final int FORMAT_VERSION = 2;
+
+    private TaskCodec() {
+    }
+
+    static byte[] encode(TaskRecord record) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(out, record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Encode a task's full state, reusing the bytes it was loaded from if it has not been decoded since
+     */
+    static byte[] fullRecord(Task task) {
+        return task instanceof SnapshotTask loaded && !loaded.isMaterialized()
+                ? loaded.recordBytes()
+                : encode(TaskRecord.full(task));
+    }
+
+    static TaskRecord decode(byte[] payload) throws IOException {
+        return read(new DataInputStream(new ByteArrayInputStream(payload)));
+    }
+
+    static void write(DataOutput out, TaskRecord record) throws IOException {
+        out.writeLong(record.id().high());
+        out.writeLong(record.id().low());
+        writeString(out, record.title());
+        writeString(out, record.description());
+        writeEnum(out, record.status());
+        writeEnum(out, record.priority());
+        writeString(out, record.assignedStaffId());
+        out.writeLong(record.startDate());
+        out.writeLong(record.dueDate());
+        out.writeLong(record.createdAt());
+        out.writeLong(record.updatedAt());
+        writeString(out, record.createdBy());
+
+        out.writeInt(record.historyFrom());
+        out.writeInt(record.history().size());
+        for (ActivityLog log : record.history()) {
+            writeActivity(out, log);
+        }
+        out.writeInt(record.commentsFrom());
+        out.writeInt(record.comments().size());
+        for (Comment comment : record.comments()) {
+            writeComment(out, comment);
+        }
+    }
+
+    static TaskRecord read(DataInput in) throws IOException {
+        TaskId id = new TaskId(in.readLong(), in.readLong());
+        String title = readString(in);
+        String description = readString(in);
+        TaskStatus status = readEnum(in, TaskStatus.values());
+        TaskPriority priority = readEnum(in, TaskPriority.values());
+        String assignedStaffId = StaffIds.intern(readString(in));
+        long startDate = in.readLong();
+        long dueDate = in.readLong();
+        long createdAt = in.readLong();
+        long updatedAt = in.readLong();
+        String createdBy = StaffIds.intern(readString(in));
+
+        int historyFrom = in.readInt();
+        int historyCount = in.readInt();
+        List<ActivityLog> history = new ArrayList<>(historyCount);
+        for (int i = 0; i < historyCount; i++) {
+            history.add(readActivity(in));
+        }
+        int commentsFrom = in.readInt();
+        int commentCount = in.readInt();
+        List<Comment> comments = new ArrayList<>(commentCount);
+        for (int i = 0; i < commentCount; i++) {
+            comments.add(readComment(in));
+        }
+
+        return new TaskRecord(id, title, description, status, priority,
+                assignedStaffId, startDate, dueDate, createdAt, updatedAt, createdBy,
+                historyFrom, history, commentsFrom, comments);
+    }
+
+    static void writeActivity(DataOutput out, ActivityLog log) throws IOException {
+        out.writeLong(log.getIdHigh());
+        out.writeLong(log.getIdLow());
+        writeString(out, log.getUserId());
+        writeEnum(out, log.getAction());
+        writeString(out, log.getFrom());
+        writeString(out, log.getTo());
+        out.writeLong(log.getTimestamp());
+    }
+
+    static ActivityLog readActivity(DataInput in) throws IOException {
+        ActivityLog log = ActivityLog.builder()
+                .idHigh(in.readLong())
+                .idLow(in.readLong())
+                .userId(StaffIds.intern(readString(in)))
+                .action(readEnum(in, ActivityAction.values()))
+                .build();
+        // Values are staff IDs or enum names, except a comment preview; older records hold the whole comment
+        String from = readString(in);
+        String to = readString(in);
+        boolean interned = log.getAction() != ActivityAction.COMMENT_ADDED;
+        log.setFrom(interned ? StaffIds.intern(from) : from);
+        log.setTo(interned ? StaffIds.intern(to) : ActivityAction.commentPreview(to));
+        log.setTimestamp(in.readLong());
+        return log;
+    }
+
+    static void writeComment(DataOutput out, Comment comment) throws IOException {
+        out.writeLong(comment.getIdHigh());
+        out.writeLong(comment.getIdLow());
+        writeString(out, comment.getUserId());
+        writeString(out, comment.getText());
+        out.writeLong(comment.getTimestamp());
+    }
+
+    static Comment readComment(DataInput in) throws IOException {
+        return Comment.builder()
+                .idHigh(in.readLong())
+                .idLow(in.readLong())
+                .userId(StaffIds.intern(readString(in)))
+                .text(readString(in))
+                .timestamp(in.readLong())
+                .build();
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        out.writeByte(value != null ? value.ordinal() : -1);
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInput in, E[] values) throws IOException {
+        byte ordinal = in.readByte();
+        return ordinal >= 0 ? values[ordinal] : null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.TaskId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in an ordered task view, used for cursor pagination
+ *
+ * Views ordered by task ID only use the id component. Start-date views are
+ * ordered by (start day, task ID) and carry the day as well. Clients only
+ * ever see the encoded, opaque form.
+ *
+ * @param day start day of the last task returned, or null for ID-ordered views
+ * @param id ID of the last task returned
+ */
+public record TaskCursor(LocalDate day, TaskId id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static TaskCursor of(TaskId id) {
+        return new TaskCursor(null, id);
+    }
+
+    public static TaskCursor of(LocalDate day, TaskId id) {
+        return new TaskCursor(day, id);
+    }
+
+    /**
+     * @return URL-safe opaque token for this position
+     */
+    public String encode() {
+        String raw = (day != null ? day.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse a token produced by {@link #encode()}
+     *
+     * @param token the opaque cursor, may be null
+     * @return the decoded position, or null when no token was given
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static TaskCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.indexOf(SEPARATOR);
+            if (split < 0 || split == raw.length() - 1) {
+                throw new IllegalArgumentException("Malformed cursor: " + token);
+            }
+            LocalDate day = split == 0 ? null : LocalDate.parse(raw.substring(0, split));
+            return new TaskCursor(day, TaskId.parse(raw.substring(split + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.yourcompany.workforcemgmt.store;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for spilling old activity history and comments to disk, bound from "task-history.*"
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "task-history")
+public class TaskHistoryProperties {
+
+    /**
+     * Keeps every entry in memory when false
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory holding the spill files; cleared on startup
+     */
+    private String directory = "data/history";
+
+    /**
+     * Entries of each log kept in memory after a spill; a log spills once it holds twice this many
+     */
+    private int residentEntries = 64;
+}
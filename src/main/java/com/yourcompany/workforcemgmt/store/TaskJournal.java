@@ -0,0 +1,489 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.metrics.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of task writes with group commit
+ *
+ * Writers encode a record and put it on a lock-free queue. A single flusher
+ * thread drains whatever has queued up, writes it with one channel write
+ * and covers the whole group with one fsync, so under concurrent load many
+ * writes share each fsync. In GROUP mode a write's future completes after
+ * its fsync; in INTERVAL mode writes are not waited for at all.
+ *
+ * The journal is a sequence of numbered segment files. A {@link TaskSnapshot}
+ * written next to them names the first segment still needed, and older
+ * segments are deleted once it is in place, which bounds replay to one
+ * snapshot plus the writes since.
+ *
+ * Each record is framed as payload length, CRC32C of the payload, payload.
+ * A torn or corrupt frame can only be the tail of the last segment after a
+ * crash; replay cuts the segment off there. Damage anywhere else would mean
+ * acknowledged writes went missing, so replay refuses to go on.
+ *
+ * A failed write or fsync fails the journal for good. The group being
+ * written and everything queued behind it complete exceptionally, and later
+ * appends are refused, since a record that never reached the disk would
+ * leave a hole that later records of the same task build on. The segment is
+ * cut back to the last complete group where that is still possible.
+ */
+class TaskJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskJournal.class);
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int FRAME_HEADER_BYTES = 8;
+    private static final int MAX_GROUP_BYTES = 4 << 20;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * A queued record, or a rotation marker when payload is null
+     */
+    private record Pending(byte[] payload, int crc, CompletableFuture<Long> done) {
+    }
+
+    private final Path directory;
+    private final TaskJournalProperties.SyncMode mode;
+    private final long syncIntervalNanos;
+    private final Histogram fsyncLatency;
+    private final Histogram groupSize;
+
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flusherIdle = new AtomicBoolean();
+    private final AtomicLong bytesSinceRotation = new AtomicLong();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+    private volatile boolean running;
+    private volatile Throwable failure;
+    private Thread flusher;
+
+    // Owned by the flusher thread once started
+    private FileChannel channel;
+    private long segment;
+    private long committed;
+    private boolean unsynced;
+    private long nextSync;
+
+    TaskJournal(Path directory, TaskJournalProperties.SyncMode mode, long syncIntervalMillis,
+                Histogram fsyncLatency, Histogram groupSize) {
+        this.directory = directory;
+        this.mode = mode;
+        this.syncIntervalNanos = TimeUnit.MILLISECONDS.toNanos(syncIntervalMillis);
+        this.fsyncLatency = fsyncLatency;
+        this.groupSize = groupSize;
+    }
+
+    /**
+     * Feed every journalled record from the given segment on to the consumer, in write order
+     *
+     * Must be called once, before {@link #start()}. A damaged tail of the last
+     * segment is truncated away.
+     *
+     * @param firstSegment first segment not covered by the snapshot the store was loaded from
+     * @return number of records replayed
+     * @throws IOException if a segment other than the last is damaged
+     */
+    long replay(long firstSegment, Consumer<TaskRecord> apply) throws IOException {
+        Files.createDirectories(directory);
+        long records = 0;
+        segment = firstSegment;
+        List<Long> numbers = segmentNumbers().stream().filter(number -> number >= firstSegment).toList();
+        for (int i = 0; i < numbers.size(); i++) {
+            long number = numbers.get(i);
+            Path path = segmentPath(number);
+            long size = Files.size(path);
+            long valid = 0;
+            try (DataInputStream in = open(path)) {
+                while (valid < size) {
+                    byte[] payload = readFrame(in);
+                    apply.accept(TaskCodec.decode(payload));
+                    records++;
+                    valid += FRAME_HEADER_BYTES + payload.length;
+                }
+            } catch (IOException e) {
+                if (i < numbers.size() - 1) {
+                    throw new IOException("Damaged journal record in " + path + " at offset " + valid
+                            + ", ahead of later segments", e);
+                }
+                log.warn("Truncating journal segment {} at a damaged record at offset {}: {}", path, valid,
+                        e.getMessage());
+                truncate(path, valid);
+                size = valid;
+            }
+            segment = number + 1;
+            // Replayed segments count towards the next snapshot like new writes do
+            bytesSinceRotation.addAndGet(size);
+        }
+        return records;
+    }
+
+    /**
+     * Open a fresh segment and start accepting writes
+     */
+    void start() throws IOException {
+        channel = openSegment(segment);
+        committed = 0;
+        running = true;
+        flusher = new Thread(this::flushLoop, "task-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * Queue a record for writing
+     *
+     * @return a future completing once the record is on disk, or null in INTERVAL mode
+     */
+    CompletableFuture<Long> append(TaskRecord record) {
+        byte[] payload = TaskCodec.encode(record);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        CompletableFuture<Long> done = mode == TaskJournalProperties.SyncMode.GROUP ? new CompletableFuture<>() : null;
+        enqueue(new Pending(payload, (int) crc.getValue(), done));
+        return done;
+    }
+
+    /**
+     * Close the current segment after everything queued so far and continue in a new one
+     *
+     * @return a future completing with the new segment number once the old one is on disk
+     */
+    CompletableFuture<Long> rotate() {
+        CompletableFuture<Long> done = new CompletableFuture<>();
+        enqueue(new Pending(null, 0, done));
+        return done;
+    }
+
+    /**
+     * @return journal bytes written since the last rotation
+     */
+    long bytesSinceRotation() {
+        return bytesSinceRotation.get();
+    }
+
+    /**
+     * @return true once a write or fsync has failed and the journal refuses further writes
+     */
+    boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * @throws UncheckedIOException if the journal has failed
+     */
+    void checkWritable() {
+        Throwable cause = failure;
+        if (cause != null) {
+            throw new UncheckedIOException("Task journal has failed and accepts no more writes",
+                    cause instanceof IOException io ? io : new IOException(cause));
+        }
+    }
+
+    /**
+     * Delete the segments a new snapshot has made redundant
+     *
+     * @param firstSegment first segment the snapshot still needs
+     */
+    void deleteSegmentsBefore(long firstSegment) throws IOException {
+        syncDirectory();
+        for (long number : segmentNumbers()) {
+            if (number < firstSegment) {
+                Files.deleteIfExists(segmentPath(number));
+            }
+        }
+    }
+
+    /**
+     * Write out everything queued, fsync and stop the flusher
+     */
+    @Override
+    public void close() throws IOException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure == null) {
+            channel.force(false);
+        }
+        channel.close();
+    }
+
+    private void enqueue(Pending pending) {
+        checkWritable();
+        if (!running) {
+            throw new IllegalStateException("Task journal is not running");
+        }
+        queue.offer(pending);
+        if (failure != null) {
+            // The flusher may have drained the queue before this was offered
+            failQueued();
+        } else if (flusherIdle.get()) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    private void flushLoop() {
+        List<CompletableFuture<Long>> group = new ArrayList<>();
+        while (true) {
+            boolean stopping = !running;
+            Pending next = queue.peek();
+            if (next == null) {
+                if (stopping) {
+                    return;
+                }
+                if (!syncIfDue()) {
+                    return;
+                }
+                flusherIdle.set(true);
+                if (queue.isEmpty() && running) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                flusherIdle.set(false);
+                continue;
+            }
+
+            if (next.payload() == null) {
+                queue.poll();
+                if (!rotateNow(next.done())) {
+                    return;
+                }
+                continue;
+            }
+
+            int records = 0;
+            long bytes = 0;
+            try {
+                while (next != null && next.payload() != null && bytes < MAX_GROUP_BYTES) {
+                    queue.poll();
+                    writeFrame(next);
+                    bytes += FRAME_HEADER_BYTES + next.payload().length;
+                    records++;
+                    if (next.done() != null) {
+                        group.add(next.done());
+                    }
+                    next = queue.peek();
+                }
+                drainBuffer();
+                bytesSinceRotation.addAndGet(bytes);
+                if (mode == TaskJournalProperties.SyncMode.GROUP) {
+                    sync();
+                } else {
+                    unsynced = true;
+                }
+                committed += bytes;
+                groupSize.record(records);
+                for (CompletableFuture<Long> done : group) {
+                    done.complete(segment);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Task journal write failed for {} records", records, e);
+                truncateToCommitted();
+                fail(e, group);
+                return;
+            }
+            group.clear();
+        }
+    }
+
+    /**
+     * @return false if the rotation failed the journal
+     */
+    private boolean rotateNow(CompletableFuture<Long> done) {
+        try {
+            drainBuffer();
+            channel.force(false);
+            channel.close();
+            segment++;
+            channel = openSegment(segment);
+            committed = 0;
+            unsynced = false;
+            bytesSinceRotation.set(0);
+            done.complete(segment);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.error("Task journal rotation failed", e);
+            fail(e, List.of(done));
+            return false;
+        }
+    }
+
+    /**
+     * Cut off a partly written group so it cannot be mistaken for acknowledged records
+     */
+    private void truncateToCommitted() {
+        buffer.clear();
+        try {
+            channel.truncate(committed);
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            // Replay truncates the damaged tail instead, since nothing is written after it
+            log.error("Could not truncate task journal segment {} after a failed write", segment, e);
+        }
+    }
+
+    private void fail(Throwable cause, List<CompletableFuture<Long>> group) {
+        failure = cause;
+        for (CompletableFuture<Long> done : group) {
+            done.completeExceptionally(cause);
+        }
+        failQueued();
+    }
+
+    private void failQueued() {
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            if (pending.done() != null) {
+                pending.done().completeExceptionally(failure);
+            }
+        }
+    }
+
+    private void writeFrame(Pending pending) throws IOException {
+        byte[] payload = pending.payload();
+        if (buffer.remaining() < FRAME_HEADER_BYTES + payload.length) {
+            drainBuffer();
+        }
+        if (buffer.remaining() < FRAME_HEADER_BYTES + payload.length) {
+            // Larger than the whole buffer: write it directly
+            ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_BYTES + payload.length);
+            frame.putInt(payload.length).putInt(pending.crc()).put(payload).flip();
+            while (frame.hasRemaining()) {
+                channel.write(frame);
+            }
+            return;
+        }
+        buffer.putInt(payload.length).putInt(pending.crc()).put(payload);
+    }
+
+    private void drainBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void sync() throws IOException {
+        long start = System.nanoTime();
+        channel.force(false);
+        fsyncLatency.recordSince(start);
+        unsynced = false;
+        nextSync = System.nanoTime() + syncIntervalNanos;
+    }
+
+    /**
+     * @return false if the fsync failed the journal
+     */
+    private boolean syncIfDue() {
+        if (unsynced && System.nanoTime() - nextSync >= 0) {
+            try {
+                sync();
+            } catch (IOException e) {
+                log.error("Task journal fsync failed", e);
+                fail(e, List.of());
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        FileChannel file = FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        syncDirectory();
+        return file;
+    }
+
+    private void syncDirectory() throws IOException {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // Not every platform can open a directory for fsync; the data itself is already synced
+            log.debug("Could not fsync journal directory {}", directory, e);
+        }
+    }
+
+    /**
+     * @return the next payload
+     * @throws IOException if the frame is torn or corrupt
+     */
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length < 0) {
+                throw new IOException("Invalid record length " + length);
+            }
+            int expected = in.readInt();
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != expected) {
+                throw new IOException("Record checksum mismatch");
+            }
+            return payload;
+        } catch (EOFException e) {
+            throw new IOException("Torn record", e);
+        }
+    }
+
+    private static void truncate(Path file, long length) throws IOException {
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            out.truncate(length);
+            out.force(false);
+        }
+    }
+
+    private static DataInputStream open(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        return new DataInputStream(new BufferedInputStream(in, 1 << 16));
+    }
+
+    private List<Long> segmentNumbers() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,50 @@
+package com.yourcompany.workforcemgmt.store;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the task write-ahead journal, bound from "task-journal.*"
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "task-journal")
+public class TaskJournalProperties {
+
+    /**
+     * When a write is acknowledged relative to reaching disk
+     */
+    public enum SyncMode {
+        /**
+         * Wait for the fsync that covers the write; concurrent writes share one fsync
+         */
+        GROUP,
+        /**
+         * Return once the write is queued and fsync on a timer; a crash can lose the last interval
+         */
+        INTERVAL
+    }
+
+    /**
+     * Keeps tasks only in memory when false
+     */
+    private boolean enabled = true;
+
+    /**
+     * Directory holding journal segments and the snapshot
+     */
+    private String directory = "data/journal";
+
+    private SyncMode syncMode = SyncMode.GROUP;
+
+    /**
+     * fsync period in INTERVAL mode
+     */
+    private long syncIntervalMillis = 50;
+
+    /**
+     * Journal bytes written since the last checkpoint that trigger a new one
+     */
+    private long checkpointBytes = 64L * 1024 * 1024;
+}
@@ -0,0 +1,105 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.ActivityLog;
+import com.yourcompany.workforcemgmt.model.AppendOnlyLog;
+import com.yourcompany.workforcemgmt.model.Comment;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamped;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persistent image of one write to a task
+ *
+ * Scalar fields are the state after the write. History and comments are
+ * deltas: the entries appended by the write and the position the first of
+ * them landed at. A full copy of a task is the same record with both
+ * positions at zero.
+ *
+ * Applying a record is idempotent: scalars are overwritten and entries the
+ * task already holds at those positions are skipped. That lets replay start
+ * from a snapshot that already contains some of the journal's writes.
+ */
+record TaskRecord(TaskId id, String title, String description, TaskStatus status, TaskPriority priority,
+                  String assignedStaffId, long startDate, long dueDate,
+                  long createdAt, long updatedAt, String createdBy,
+                  int historyFrom, List<ActivityLog> history, int commentsFrom, List<Comment> comments) {
+
+    /**
+     * Capture a task after a write, with the entries appended since the given positions
+     */
+    static TaskRecord of(Task task, int historyFrom, int commentsFrom) {
+        return new TaskRecord(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getAssignedStaffId(), task.getStartDate(), task.getDueDate(),
+                task.getCreatedAt(), task.getUpdatedAt(), task.getCreatedBy(),
+                historyFrom, tail(task.getActivityHistory(), historyFrom),
+                commentsFrom, tail(task.getComments(), commentsFrom));
+    }
+
+    /**
+     * Capture the whole task
+     */
+    static TaskRecord full(Task task) {
+        return of(task, 0, 0);
+    }
+
+    /**
+     * @return whether this record holds the whole task, as one that starts at position zero does
+     */
+    boolean isFull() {
+        return historyFrom == 0 && commentsFrom == 0;
+    }
+
+    /**
+     * Build a new task from a record that starts at position zero
+     */
+    Task toTask() {
+        Task task = Task.builder()
+                .id(id)
+                .activityHistory(new AppendOnlyLog<>())
+                .comments(new AppendOnlyLog<>())
+                .build();
+        applyTo(task);
+        return task;
+    }
+
+    /**
+     * Bring an existing task up to date with this record
+     */
+    void applyTo(Task task) {
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setAssignedStaffId(assignedStaffId);
+        task.setStartDate(startDate);
+        task.setDueDate(dueDate);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        task.setCreatedBy(createdBy);
+        appendMissing(task.getActivityHistory(), historyFrom, history);
+        appendMissing(task.getComments(), commentsFrom, comments);
+    }
+
+    private static <E extends Timestamped> List<E> tail(AppendOnlyLog<E> log, int from) {
+        int size = log.size();
+        if (from >= size) {
+            return List.of();
+        }
+        List<E> entries = new ArrayList<>(size - from);
+        for (int i = from; i < size; i++) {
+            entries.add(log.get(i));
+        }
+        return entries;
+    }
+
+    private static <E extends Timestamped> void appendMissing(AppendOnlyLog<E> log, int from, List<E> entries) {
+        for (int i = Math.max(0, log.size() - from); i < entries.size(); i++) {
+            log.append(entries.get(i));
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.StaffIds;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Memory-mappable snapshot of the whole task store
+ *
+ * Layout, all big-endian:
+ * <pre>
+ *   header   magic, version, first journal segment, task count,
+ *            offset of the row table, offset and size of the staff table
+ *   records  one {@link TaskCodec} record per task, plus each distinct
+ *            staff ID as a length-prefixed string
+ *   rows     one fixed-width row per task: record offset and length,
+ *            status, priority, staff table index, start/due/updated times
+ *   staff    offset of each staff ID string
+ * </pre>
+ *
+ * Loading maps the file and walks the row table, so the indexed fields of
+ * every task come from fixed offsets without decoding any record; only the
+ * ID and title are read from the front of each record. Times are stored in
+ * the same primitive form the tasks hold them in. The rest of a task
+ * is decoded on first use, see {@link SnapshotTask}.
+ *
+ * Nothing crosses a {@link SnapshotRegion#CHUNK_SIZE} boundary: a record
+ * that would is moved to the start of the next chunk. The header is written
+ * last and the file is only renamed into place after an fsync, so a
+ * snapshot that exists under its final name is complete.
+ */
+final class TaskSnapshot {
+
+    static final String FILE_NAME = "snapshot.bin";
+    private static final int MAGIC = 0x57465350;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 64;
+    private static final int ROW_BYTES = 64;
+
+    // Row field offsets
+    private static final int ROW_RECORD_OFFSET = 0;
+    private static final int ROW_RECORD_LENGTH = 8;
+    private static final int ROW_STATUS = 12;
+    private static final int ROW_PRIORITY = 13;
+    private static final int ROW_STAFF = 16;
+    private static final int ROW_START = 24;
+    private static final int ROW_DUE = 32;
+    private static final int ROW_UPDATED = 40;
+
+    private TaskSnapshot() {
+    }
+
+    /**
+     * Load every task in a snapshot
+     *
+     * @param file the snapshot file
+     * @param sink receives each task; unchanged tasks keep referring to the mapped file
+     * @param logsLoaded sees each task's history and comments when they are first decoded
+     * @return the first journal segment to replay on top of the snapshot
+     */
+    static long read(Path file, Consumer<Task> sink, SnapshotTask.LogsLoaded logsLoaded) throws IOException {
+        SnapshotRegion region = SnapshotRegion.map(file);
+        if (region.getInt(0) != MAGIC || region.getInt(4) != VERSION) {
+            throw new IOException("Unrecognised snapshot format in " + file);
+        }
+        long firstSegment = region.getLong(8);
+        long taskCount = region.getLong(16);
+        long rowsOffset = region.getLong(24);
+        long staffOffset = region.getLong(32);
+        int staffCount = region.getInt(40);
+
+        String[] staff = new String[staffCount];
+        for (int i = 0; i < staffCount; i++) {
+            staff[i] = StaffIds.intern(region.getString(region.getLong(staffOffset + (long) i * Long.BYTES)));
+        }
+
+        for (long row = rowsOffset, end = rowsOffset + taskCount * ROW_BYTES; row < end; row += ROW_BYTES) {
+            SnapshotTask task = new SnapshotTask(region, region.getLong(row + ROW_RECORD_OFFSET),
+                    region.getInt(row + ROW_RECORD_LENGTH), logsLoaded);
+            byte status = region.getByte(row + ROW_STATUS);
+            byte priority = region.getByte(row + ROW_PRIORITY);
+            int staffIndex = region.getInt(row + ROW_STAFF);
+            task.setStatus(status >= 0 ? TaskStatus.values()[status] : null);
+            task.setPriority(priority >= 0 ? TaskPriority.values()[priority] : null);
+            task.setAssignedStaffId(staffIndex >= 0 ? staff[staffIndex] : null);
+            task.setStartDate(region.getLong(row + ROW_START));
+            task.setDueDate(region.getLong(row + ROW_DUE));
+            task.setUpdatedAt(region.getLong(row + ROW_UPDATED));
+            sink.accept(task);
+        }
+        return firstSegment;
+    }
+
+    /**
+     * Write a snapshot, replacing any existing one only once it is complete and on disk
+     *
+     * The tasks may be changing while they are written; the journal from
+     * firstSegment onwards must cover every change made after the stream
+     * was started.
+     *
+     * @param file the snapshot file
+     * @param firstSegment first journal segment replay must read after this snapshot
+     * @param tasks every stored task
+     */
+    static void write(Path file, long firstSegment, Stream<Task> tasks) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Path rowsTemp = file.resolveSibling(file.getFileName() + ".rows.tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+             FileChannel rowsChannel = FileChannel.open(rowsTemp, StandardOpenOption.CREATE,
+                     StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
+                     StandardOpenOption.DELETE_ON_CLOSE)) {
+            Writer writer = new Writer(channel, rowsChannel);
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.add(iterator.next());
+            }
+            writer.finish(firstSegment);
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Streams records into the snapshot and rows into a side file that is appended at the end
+     */
+    private static final class Writer {
+
+        private final FileChannel channel;
+        private final FileChannel rowsChannel;
+        private final DataOutputStream out;
+        private final DataOutputStream rows;
+        private final Map<String, Integer> staffIndex = new HashMap<>();
+        private final ByteBuffer row = ByteBuffer.allocate(ROW_BYTES);
+        private long position = HEADER_BYTES;
+        private long[] staffOffsets = new long[64];
+        private long taskCount;
+
+        Writer(FileChannel channel, FileChannel rowsChannel) throws IOException {
+            this.channel = channel;
+            this.rowsChannel = rowsChannel;
+            channel.position(HEADER_BYTES);
+            this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            this.rows = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(rowsChannel), 1 << 16));
+        }
+
+        void add(Task task) throws IOException {
+            byte[] record = TaskCodec.fullRecord(task);
+            long recordOffset = place(record);
+
+            row.clear();
+            row.putLong(ROW_RECORD_OFFSET, recordOffset);
+            row.putInt(ROW_RECORD_LENGTH, record.length);
+            row.put(ROW_STATUS, (byte) (task.getStatus() != null ? task.getStatus().ordinal() : -1));
+            row.put(ROW_PRIORITY, (byte) (task.getPriority() != null ? task.getPriority().ordinal() : -1));
+            row.putInt(ROW_STAFF, staff(task.getAssignedStaffId()));
+            row.putLong(ROW_START, task.getStartDate());
+            row.putLong(ROW_DUE, task.getDueDate());
+            row.putLong(ROW_UPDATED, task.getUpdatedAt());
+            rows.write(row.array());
+            taskCount++;
+        }
+
+        void finish(long firstSegment) throws IOException {
+            rows.flush();
+
+            // Rows and staff offsets are fixed-width and aligned, so chunk boundaries fall between them
+            pad(-position & (ROW_BYTES - 1));
+            long rowsOffset = position;
+            out.flush();
+            for (long sent = 0, size = rowsChannel.size(); sent < size; ) {
+                sent += rowsChannel.transferTo(sent, size - sent, channel);
+            }
+            position += rowsChannel.size();
+
+            long staffOffset = position;
+            for (int i = 0; i < staffIndex.size(); i++) {
+                out.writeLong(staffOffsets[i]);
+            }
+            position += (long) staffIndex.size() * Long.BYTES;
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putLong(firstSegment).putLong(taskCount)
+                    .putLong(rowsOffset).putLong(staffOffset).putInt(staffIndex.size()).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+
+        /**
+         * Write the bytes where they do not cross a chunk boundary
+         *
+         * @return the offset they were written at
+         */
+        private long place(byte[] bytes) throws IOException {
+            if (bytes.length > SnapshotRegion.CHUNK_SIZE) {
+                throw new IOException("Snapshot record of " + bytes.length + " bytes is too large");
+            }
+            long used = position & (SnapshotRegion.CHUNK_SIZE - 1);
+            if (used + bytes.length > SnapshotRegion.CHUNK_SIZE) {
+                pad(SnapshotRegion.CHUNK_SIZE - used);
+            }
+            long offset = position;
+            out.write(bytes);
+            position += bytes.length;
+            return offset;
+        }
+
+        private void pad(long bytes) throws IOException {
+            for (long i = 0; i < bytes; i++) {
+                out.write(0);
+            }
+            position += bytes;
+        }
+
+        private int staff(String staffId) throws IOException {
+            if (staffId == null) {
+                return -1;
+            }
+            Integer index = staffIndex.get(staffId);
+            if (index == null) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(Integer.BYTES + staffId.length());
+                TaskCodec.writeString(new DataOutputStream(bytes), staffId);
+                index = staffIndex.size();
+                staffIndex.put(staffId, index);
+                if (index == staffOffsets.length) {
+                    staffOffsets = Arrays.copyOf(staffOffsets, index * 2);
+                }
+                staffOffsets[index] = place(bytes.toByteArray());
+            }
+            return index;
+        }
+    }
+}
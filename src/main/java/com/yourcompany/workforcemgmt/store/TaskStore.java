@@ -0,0 +1,159 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Storage abstraction for tasks used by the service layer
+ *
+ * Implementations must be safe for concurrent use by request threads and
+ * keep the secondary lookups (staff, priority, status) consistent with the
+ * stored tasks, so filters only touch the matching rows.
+ *
+ * Filtered views are returned in a stable order (task ID, or start day then
+ * task ID for the start-date views) and resume strictly after the given
+ * cursor, which may be null to start from the beginning. Streams are lazy
+ * and weakly consistent: they reflect writes made while they are consumed.
+ */
+public interface TaskStore {
+
+    /**
+     * Look up a task by its ID
+     *
+     * @param id the task ID
+     * @return the task, or null if no task exists with that ID
+     */
+    Task findById(String id);
+
+    /**
+     * Insert a task, or replace the task stored under the same ID
+     *
+     * @param task the task to store
+     */
+    void save(Task task);
+
+    /**
+     * Apply a mutation to a stored task and re-index it atomically
+     *
+     * @param id the task ID
+     * @param mutation the change to apply to the task
+     * @return the updated task, or null if no task exists with that ID
+     */
+    Task update(String id, Consumer<Task> mutation);
+
+    /**
+     * Insert or replace several tasks in one call
+     *
+     * @param tasks the tasks to store
+     */
+    void saveAll(Collection<Task> tasks);
+
+    /**
+     * Apply a mutation to each of several stored tasks, re-indexing each atomically
+     *
+     * The same ID may appear more than once; its mutations then run in order.
+     *
+     * @param ids the task IDs
+     * @param mutation receives the position in ids and the task at that position
+     * @return the updated tasks in the order of ids, with null where no task exists
+     */
+    List<Task> updateAll(List<String> ids, BiConsumer<Integer, Task> mutation);
+
+    /**
+     * @return all stored tasks, including cancelled ones, in no particular order
+     */
+    Stream<Task> findAll();
+
+    /**
+     * @param after position to resume after, or null
+     * @return non-cancelled tasks ordered by ID
+     */
+    Stream<Task> findOpen(TaskCursor after);
+
+    /**
+     * @param staffId the assigned staff member ID
+     * @param after position to resume after, or null
+     * @return tasks currently assigned to the staff member, ordered by ID
+     */
+    Stream<Task> findByAssignedStaffId(String staffId, TaskCursor after);
+
+    /**
+     * @param priority the priority level
+     * @param after position to resume after, or null
+     * @return tasks currently at the given priority, ordered by ID
+     */
+    Stream<Task> findByPriority(TaskPriority priority, TaskCursor after);
+
+    /**
+     * @param status the task status
+     * @param after position to resume after, or null
+     * @return tasks currently in the given status, ordered by ID
+     */
+    Stream<Task> findByStatus(TaskStatus status, TaskCursor after);
+
+    /**
+     * @param from first start day, inclusive
+     * @param to last start day, inclusive
+     * @param after position to resume after, or null
+     * @return non-cancelled tasks whose start date falls within the range,
+     *         ordered by start day then ID
+     */
+    Stream<Task> findOpenStartingBetween(LocalDate from, LocalDate to, TaskCursor after);
+
+    /**
+     * @param day the cut-off day, exclusive
+     * @param after position to resume after, or null
+     * @return ACTIVE tasks whose start date is before the given day,
+     *         ordered by start day then ID
+     */
+    Stream<Task> findActiveStartingBefore(LocalDate day, TaskCursor after);
+
+    /**
+     * @return number of stored tasks
+     */
+    int size();
+
+    /**
+     * @return number of stored tasks in each status, without scanning
+     */
+    Map<TaskStatus, Long> countByStatus();
+
+    /**
+     * @return task counts of each staff member with non-cancelled tasks, without scanning
+     */
+    Map<String, WorkloadCounts> workloadByStaff();
+
+    /**
+     * @return number of a staff member's tasks in a status, read from counters in constant time
+     */
+    long countByStaff(String staffId, TaskStatus status);
+
+    /**
+     * @return number of entries held by each secondary index, keyed by index name
+     */
+    Map<String, Long> indexSizes();
+
+    /**
+     * Move old tasks out of memory into the cold archive, where stores have one
+     *
+     * Archived tasks are no longer returned by findAll, the filtered views
+     * or the counts, but findById still finds them, and updating one brings
+     * it back into memory.
+     *
+     * @param updatedBefore archive only tasks last updated before this time (see Timestamps)
+     * @param statuses archive only tasks in one of these statuses
+     * @param archived receives each task as it leaves memory
+     * @return number of tasks archived; always 0 for a store without an archive
+     */
+    int archive(long updatedBefore, Set<TaskStatus> statuses, Consumer<Task> archived);
+}
@@ -0,0 +1,189 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per staff member counts of non-cancelled tasks by status and priority, and of overdue ones
+ *
+ * The store adds a task's indexed fields when it indexes the task and
+ * subtracts them when it unindexes it, so every write costs a constant
+ * number of counter updates and reading the counts never touches a task.
+ *
+ * A task is overdue while it is ACTIVE and past its due date. Tasks become
+ * overdue with the passage of time rather than a write, so ACTIVE tasks
+ * with a due date are first counted in a bucket for their due minute.
+ * Reads move every bucket whose minute has passed into the overdue counts,
+ * each bucket once, so the cost is spread over the tasks that became
+ * overdue. A task therefore counts as overdue within a minute of its due
+ * time, never before it.
+ */
+final class WorkloadCounters {
+
+    private static final long BUCKET_MICROS = 60_000_000L;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private final ConcurrentHashMap<String, Cells> byStaff = new ConcurrentHashMap<>();
+
+    // Due buckets not yet overdue: minute -> staff -> count per priority, guarded by dueLock
+    private final ReentrantLock dueLock = new ReentrantLock();
+    private final TreeMap<Long, Map<String, long[]>> dueBuckets = new TreeMap<>();
+    private long overdueBefore = Long.MIN_VALUE;
+
+    /**
+     * Count a task with the given indexed fields
+     */
+    void add(String staffId, TaskStatus status, TaskPriority priority, long dueDate) {
+        change(staffId, status, priority, dueDate, 1);
+    }
+
+    /**
+     * Stop counting a task with the given indexed fields
+     */
+    void remove(String staffId, TaskStatus status, TaskPriority priority, long dueDate) {
+        change(staffId, status, priority, dueDate, -1);
+    }
+
+    /**
+     * @param now the current time, up to which due buckets are counted as overdue
+     * @return counts for each staff member with at least one counted task
+     */
+    Map<String, WorkloadCounts> snapshot(long now) {
+        dueLock.lock();
+        try {
+            advance(Math.floorDiv(now, BUCKET_MICROS));
+        } finally {
+            dueLock.unlock();
+        }
+
+        Map<String, WorkloadCounts> counts = new HashMap<>();
+        byStaff.forEach((staffId, cells) -> {
+            Map<TaskStatus, Map<TaskPriority, Long>> byStatus = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : STATUSES) {
+                Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+                for (TaskPriority priority : PRIORITIES) {
+                    long count = cells.counts.get(cellOf(status, priority));
+                    if (count != 0) {
+                        byPriority.put(priority, count);
+                    }
+                }
+                if (!byPriority.isEmpty()) {
+                    byStatus.put(status, byPriority);
+                }
+            }
+            Map<TaskPriority, Long> overdue = new EnumMap<>(TaskPriority.class);
+            for (TaskPriority priority : PRIORITIES) {
+                long count = cells.overdue.get(priority.ordinal());
+                if (count != 0) {
+                    overdue.put(priority, count);
+                }
+            }
+            if (!byStatus.isEmpty()) {
+                counts.put(staffId, new WorkloadCounts(byStatus, overdue));
+            }
+        });
+        return counts;
+    }
+
+    /**
+     * @return the staff member's count of tasks in a status, over all priorities; always 0 for CANCELLED
+     */
+    long count(String staffId, TaskStatus status) {
+        Cells cells = staffId != null ? byStaff.get(staffId) : null;
+        if (cells == null) {
+            return 0;
+        }
+        long count = 0;
+        for (TaskPriority priority : PRIORITIES) {
+            count += cells.counts.get(cellOf(status, priority));
+        }
+        return count;
+    }
+
+    private void change(String staffId, TaskStatus status, TaskPriority priority, long dueDate, int delta) {
+        if (staffId == null || status == null || priority == null || status == TaskStatus.CANCELLED) {
+            return;
+        }
+        Cells cells = byStaff.computeIfAbsent(staffId, id -> new Cells());
+        cells.counts.addAndGet(cellOf(status, priority), delta);
+        if (status != TaskStatus.ACTIVE || dueDate == Timestamps.NONE) {
+            return;
+        }
+
+        long bucket = Math.floorDiv(dueDate, BUCKET_MICROS);
+        dueLock.lock();
+        try {
+            if (bucket < overdueBefore) {
+                cells.overdue.addAndGet(priority.ordinal(), delta);
+                return;
+            }
+            Map<String, long[]> staffCounts = dueBuckets.computeIfAbsent(bucket, b -> new HashMap<>());
+            long[] perPriority = staffCounts.computeIfAbsent(staffId, id -> new long[PRIORITIES.length]);
+            perPriority[priority.ordinal()] += delta;
+            if (delta < 0 && isZero(perPriority)) {
+                staffCounts.remove(staffId);
+                if (staffCounts.isEmpty()) {
+                    dueBuckets.remove(bucket);
+                }
+            }
+        } finally {
+            dueLock.unlock();
+        }
+    }
+
+    /**
+     * Move the buckets of minutes before the given one into the overdue counts; called with dueLock held
+     */
+    private void advance(long currentBucket) {
+        if (currentBucket <= overdueBefore) {
+            return;
+        }
+        Iterator<Map.Entry<Long, Map<String, long[]>>> passed =
+                dueBuckets.headMap(currentBucket).entrySet().iterator();
+        while (passed.hasNext()) {
+            passed.next().getValue().forEach((staffId, perPriority) -> {
+                Cells cells = byStaff.computeIfAbsent(staffId, id -> new Cells());
+                for (int p = 0; p < perPriority.length; p++) {
+                    if (perPriority[p] != 0) {
+                        cells.overdue.addAndGet(p, perPriority[p]);
+                    }
+                }
+            });
+            passed.remove();
+        }
+        overdueBefore = currentBucket;
+    }
+
+    private static int cellOf(TaskStatus status, TaskPriority priority) {
+        return status.ordinal() * PRIORITIES.length + priority.ordinal();
+    }
+
+    private static boolean isZero(long[] counts) {
+        for (long count : counts) {
+            if (count != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * One staff member's counters
+     */
+    private static final class Cells {
+
+        final AtomicLongArray counts = new AtomicLongArray(STATUSES.length * PRIORITIES.length);
+        final AtomicLongArray overdue = new AtomicLongArray(PRIORITIES.length);
+    }
+}
@@ -0,0 +1,15 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * One staff member's task counts, as maintained by the store
+ *
+ * @param byStatus non-cancelled tasks by status and then priority; zero counts are left out
+ * @param overdue ACTIVE tasks past their due date by priority; zero counts are left out
+ */
+public record WorkloadCounts(Map<TaskStatus, Map<TaskPriority, Long>> byStatus, Map<TaskPriority, Long> overdue) {
+}
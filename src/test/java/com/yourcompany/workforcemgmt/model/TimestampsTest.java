@@ -0,0 +1,59 @@
+package com.yourcompany.workforcemgmt.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The current time and request times must be read in the same zone, whatever the server's zone is
+ */
+class TimestampsTest {
+
+    private TimeZone defaultZone;
+
+    @BeforeEach
+    void setUp() {
+        defaultZone = TimeZone.getDefault();
+        // Half-hour offset and no daylight saving, so it cannot line up with UTC by accident
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(defaultZone);
+    }
+
+    @Test
+    void nowIsServerLocalTime() {
+        LocalDateTime before = LocalDateTime.now();
+        LocalDateTime now = Timestamps.toDateTime(Timestamps.now());
+        LocalDateTime after = LocalDateTime.now();
+
+        assertThat(now).isBetween(before.withNano(before.getNano() / 1_000 * 1_000), after);
+        assertThat(Duration.between(LocalDateTime.now(ZoneOffset.UTC), now).toMinutes()).isBetween(329L, 330L);
+    }
+
+    @Test
+    void requestTimesCompareWithNowInTheSameZone() {
+        long dueInAnHour = Timestamps.of(LocalDateTime.now().plusHours(1));
+        long dueAnHourAgo = Timestamps.of(LocalDateTime.now().minusHours(1));
+
+        assertThat(dueInAnHour).isGreaterThan(Timestamps.now());
+        assertThat(dueAnHourAgo).isLessThan(Timestamps.now());
+    }
+
+    @Test
+    void roundTripsLocalDateTime() {
+        LocalDateTime time = LocalDateTime.of(2025, 3, 30, 2, 30, 15, 123_456_000);
+
+        assertThat(Timestamps.toDateTime(Timestamps.of(time))).isEqualTo(time);
+        assertThat(Timestamps.toDate(Timestamps.of(time))).isEqualTo(time.toLocalDate());
+    }
+}
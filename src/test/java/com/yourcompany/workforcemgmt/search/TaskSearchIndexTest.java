@@ -0,0 +1,74 @@
+package com.yourcompany.workforcemgmt.search;
+
+import com.yourcompany.workforcemgmt.model.AppendOnlyLog;
+import com.yourcompany.workforcemgmt.model.Comment;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import com.yourcompany.workforcemgmt.store.InMemoryTaskStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ranking over an index that still holds documents of removed tasks
+ */
+class TaskSearchIndexTest {
+
+    private InMemoryTaskStore store;
+    private TaskSearchIndex index;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryTaskStore();
+        index = new TaskSearchIndex(store);
+    }
+
+    @Test
+    void wordInMoreDocumentsThanAreLiveListsEachTaskOnce() {
+        Task removed = save("Boiler service", "boiler pressure low");
+        Task repeated = save("Boiler check", "boiler valve", "boiler flue", "boiler gauge");
+        Task single = save("Boiler room");
+        save("Window cleaning");
+        index.search("boiler", task -> true, 10);
+
+        // 2 of 8 documents dead is below the compaction threshold, leaving 7 postings for 6 live documents
+        index.remove(removed);
+        assertThat(index.documentCount()).isEqualTo(8);
+
+        List<Task> results = index.search("boiler", task -> true, 10);
+
+        assertThat(results).doesNotHaveDuplicates();
+        assertThat(results).containsExactlyInAnyOrder(repeated, single);
+    }
+
+    private Task save(String title, String... comments) {
+        long now = Timestamps.now();
+        AppendOnlyLog<Comment> log = new AppendOnlyLog<>();
+        for (String text : comments) {
+            log.append(Comment.builder().idLow(++nextId).userId("staff-1").text(text).timestamp(now).build());
+        }
+        Task task = Task.builder()
+                .id(new TaskId(0, ++nextId))
+                .title(title)
+                .status(TaskStatus.ACTIVE)
+                .priority(TaskPriority.MEDIUM)
+                .assignedStaffId("staff-1")
+                .startDate(now)
+                .dueDate(Timestamps.plusDays(now, 1))
+                .createdAt(now)
+                .updatedAt(now)
+                .createdBy("test")
+                .activityHistory(new AppendOnlyLog<>())
+                .comments(log)
+                .build();
+        store.save(task);
+        return task;
+    }
+}
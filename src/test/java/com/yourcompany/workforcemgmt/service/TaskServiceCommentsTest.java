@@ -0,0 +1,48 @@
+package com.yourcompany.workforcemgmt.service;
+
+import com.yourcompany.workforcemgmt.dto.ActivityLogDto;
+import com.yourcompany.workforcemgmt.dto.AddCommentRequest;
+import com.yourcompany.workforcemgmt.dto.CreateTaskRequest;
+import com.yourcompany.workforcemgmt.dto.TaskDto;
+import com.yourcompany.workforcemgmt.model.ActivityAction;
+import com.yourcompany.workforcemgmt.model.ActivityLog;
+import com.yourcompany.workforcemgmt.model.Task;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A comment's text is stored once, on the comment; its history entry only previews it
+ */
+class TaskServiceCommentsTest {
+
+    private final TaskServiceFixture fixture = new TaskServiceFixture();
+    private final TaskService service = fixture.service();
+
+    @Test
+    void historyEntryKeepsOnlyAPreview() {
+        String taskId = service.createTask(CreateTaskRequest.builder()
+                .title("Boiler service")
+                .assignedStaffId("staff-1")
+                .build(), "test").getId();
+        String text = "Pressure dropped again overnight; the relief valve needs replacing before the weekend";
+
+        service.addCommentToTask(taskId, new AddCommentRequest(text, "staff-1"));
+
+        Task task = fixture.store().findById(taskId);
+        assertThat(task.getComments().get(0).getText()).isEqualTo(text);
+        ActivityLog entry = task.getActivityHistory().get(task.getActivityHistory().size() - 1);
+        assertThat(entry.getAction()).isEqualTo(ActivityAction.COMMENT_ADDED);
+        assertThat(entry.getTo()).isEqualTo(text.substring(0, 50) + "...");
+
+        TaskDto dto = service.getTaskById(taskId, true);
+        ActivityLogDto rendered = dto.getActivityHistory().get(dto.getActivityHistory().size() - 1);
+        assertThat(rendered.getDescription()).isEqualTo("Comment added: \"" + text.substring(0, 50) + "...\"");
+    }
+
+    @Test
+    void shortCommentIsPreviewedWhole() {
+        assertThat(ActivityAction.commentPreview("Done")).isEqualTo("Done");
+        assertThat(ActivityAction.COMMENT_ADDED.describe(null, "Done")).isEqualTo("Comment added: \"Done\"");
+    }
+}
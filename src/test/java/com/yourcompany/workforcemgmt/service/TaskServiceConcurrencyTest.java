@@ -0,0 +1,206 @@
+package com.yourcompany.workforcemgmt.service;
+
+import com.yourcompany.workforcemgmt.controller.TaskController;
+import com.yourcompany.workforcemgmt.dto.AddCommentRequest;
+import com.yourcompany.workforcemgmt.dto.AssignTaskRequest;
+import com.yourcompany.workforcemgmt.dto.CommentDto;
+import com.yourcompany.workforcemgmt.dto.CreateTaskRequest;
+import com.yourcompany.workforcemgmt.dto.TaskDto;
+import com.yourcompany.workforcemgmt.logging.RequestTraceProperties;
+import com.yourcompany.workforcemgmt.logging.RequestTracer;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Writes racing on the same tasks: none may be lost or applied twice, and
+ * none may land on a task a reassignment has already replaced
+ *
+ * The same checks as the loadtest ConcurrencyStress harness, at a size
+ * that runs with the build.
+ */
+class TaskServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int HOT_TASKS = 4;
+    private static final int OPERATIONS = 200;
+
+    private TaskService service;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskServiceFixture().service();
+        pool = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentCommentsAreAllKept() throws Exception {
+        List<String> taskIds = createTasks(HOT_TASKS);
+        runOnAllThreads(thread -> {
+            for (int i = 0; i < OPERATIONS; i++) {
+                AddCommentRequest comment = new AddCommentRequest("t" + thread + "-" + i, "test");
+                service.addCommentToTask(taskIds.get(i % HOT_TASKS), comment);
+            }
+        });
+
+        for (String taskId : taskIds) {
+            TaskDto task = service.getTaskById(taskId, true);
+            assertThat(commentTexts(task)).doesNotHaveDuplicates().hasSize(THREADS * OPERATIONS / HOT_TASKS);
+            assertThat(task.getVersion()).isEqualTo(1 + task.getComments().size());
+        }
+    }
+
+    @Test
+    void conditionalCommentsRetriedOnConflictAreAllKept() throws Exception {
+        String taskId = createTasks(1).get(0);
+        int perThread = OPERATIONS / 10;
+        AtomicInteger conflicts = new AtomicInteger();
+        runOnAllThreads(thread -> {
+            for (int i = 0; i < perThread; i++) {
+                AddCommentRequest comment = new AddCommentRequest("t" + thread + "-" + i, "test");
+                while (true) {
+                    long seen = service.getTaskVersion(taskId);
+                    try {
+                        service.addCommentToTask(taskId, comment, seen);
+                        break;
+                    } catch (VersionConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+            }
+        });
+
+        TaskDto task = service.getTaskById(taskId, true);
+        assertThat(commentTexts(task)).doesNotHaveDuplicates().hasSize(THREADS * perThread);
+        assertThat(task.getVersion()).isEqualTo(1 + THREADS * perThread);
+    }
+
+    @Test
+    void racingReassignmentsReplaceEachTaskOnce() throws Exception {
+        int races = OPERATIONS / 5;
+        List<String> taskIds = createTasks(races);
+        AtomicInteger refused = new AtomicInteger();
+        List<Callable<String>> contenders = new ArrayList<>();
+        for (String taskId : taskIds) {
+            CyclicBarrier start = new CyclicBarrier(3);
+            for (String staffId : new String[] {"staff-b", "staff-c"}) {
+                contenders.add(() -> {
+                    start.await();
+                    try {
+                        return service.assignTaskByRef(taskId, AssignTaskRequest.builder()
+                                .newStaffId(staffId)
+                                .reassignedBy("test")
+                                .build()).getId();
+                    } catch (TaskReplacedException e) {
+                        refused.incrementAndGet();
+                        return null;
+                    }
+                });
+            }
+            contenders.add(() -> {
+                start.await();
+                try {
+                    service.updateTaskStatus(taskId, TaskStatus.COMPLETED, "test");
+                } catch (TaskReplacedException e) {
+                    refused.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        List<Future<String>> results = pool.invokeAll(contenders);
+
+        for (int i = 0; i < races; i++) {
+            assertThat(service.getTaskById(taskIds.get(i)).getStatus()).isEqualTo(TaskStatus.CANCELLED);
+            int replacements = 0;
+            for (Future<String> result : results.subList(3 * i, 3 * i + 2)) {
+                replacements += result.get() != null ? 1 : 0;
+            }
+            assertThat(replacements).as("replacements of task %s", taskIds.get(i)).isEqualTo(1);
+        }
+        // Each race has one losing reassignment, and the status update loses when it comes last
+        assertThat(refused.get()).isBetween(races, 2 * races);
+    }
+
+    @Test
+    void writesToReplacedTaskAreRefusedWithConflict() {
+        String taskId = createTasks(1).get(0);
+        AssignTaskRequest reassign = AssignTaskRequest.builder().newStaffId("staff-b").reassignedBy("test").build();
+        service.assignTaskByRef(taskId, reassign);
+
+        assertThatThrownBy(() -> service.updateTaskStatus(taskId, TaskStatus.COMPLETED, "test"))
+                .isInstanceOf(TaskReplacedException.class);
+        assertThatThrownBy(() -> service.assignTaskByRef(taskId, reassign))
+                .isInstanceOf(TaskReplacedException.class);
+
+        TaskController controller = new TaskController();
+        ReflectionTestUtils.setField(controller, "taskService", service);
+        ReflectionTestUtils.setField(controller, "tracer", new RequestTracer(new RequestTraceProperties()));
+        assertThat(controller.updateTaskStatus(taskId, TaskStatus.COMPLETED, "test", null).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(controller.assignTaskByRef(taskId, reassign, null).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+        assertThat(service.getTaskById(taskId).getStatus()).isEqualTo(TaskStatus.CANCELLED);
+    }
+
+    private List<String> createTasks(int count) {
+        List<String> taskIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CreateTaskRequest request = CreateTaskRequest.builder()
+                    .title("Contended task " + i)
+                    .assignedStaffId("staff-a")
+                    .build();
+            taskIds.add(service.createTask(request, "test").getId());
+        }
+        return taskIds;
+    }
+
+    private static List<String> commentTexts(TaskDto task) {
+        return task.getComments().stream().map(CommentDto::getText).collect(Collectors.toList());
+    }
+
+    /**
+     * Run the same work on every pool thread, all starting together
+     */
+    private void runOnAllThreads(ThreadWork work) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        List<Callable<Void>> tasks = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            tasks.add(() -> {
+                start.await();
+                work.run(thread);
+                return null;
+            });
+        }
+        for (Future<Void> result : pool.invokeAll(tasks)) {
+            result.get();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadWork {
+        void run(int thread) throws Exception;
+    }
+}
@@ -0,0 +1,112 @@
+package com.yourcompany.workforcemgmt.service;
+
+import com.yourcompany.workforcemgmt.dto.TaskDto;
+import com.yourcompany.workforcemgmt.dto.TaskPage;
+import com.yourcompany.workforcemgmt.dto.TaskSummaryDto;
+import com.yourcompany.workforcemgmt.model.AppendOnlyLog;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import com.yourcompany.workforcemgmt.store.InMemoryTaskStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cursor paging of the smart daily view across its two halves: active tasks
+ * that started before the range, then open tasks starting inside it
+ */
+class TaskServiceDateRangeTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 10);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 14);
+
+    private InMemoryTaskStore store;
+    private TaskService service;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        TaskServiceFixture fixture = new TaskServiceFixture();
+        store = fixture.store();
+        service = fixture.service();
+
+        // Before the range: only the active ones belong to the view
+        for (int day = 1; day <= 5; day++) {
+            save(FROM.minusDays(day), TaskStatus.ACTIVE);
+            save(FROM.minusDays(day), TaskStatus.ACTIVE);
+            save(FROM.minusDays(day), TaskStatus.COMPLETED);
+        }
+        // Inside the range: everything but cancelled tasks
+        for (int day = 0; day <= 4; day++) {
+            save(FROM.plusDays(day), TaskStatus.ACTIVE);
+            save(FROM.plusDays(day), TaskStatus.COMPLETED);
+            save(FROM.plusDays(day), TaskStatus.CANCELLED);
+        }
+        // After the range
+        save(TO.plusDays(1), TaskStatus.ACTIVE);
+    }
+
+    @Test
+    void pagesCoverTheWholeViewInOrder() {
+        List<String> expected = service.getTasksByDateRange(FROM, TO).stream()
+                .map(TaskDto::getId)
+                .collect(Collectors.toList());
+        assertThat(expected).hasSize(20);
+
+        for (int limit = 1; limit <= 7; limit++) {
+            assertThat(pageThrough(limit)).as("limit %d", limit).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void cursorInsideTheRangeSkipsTheEarlierHalf() {
+        TaskPage first = service.getTasksByDateRange(FROM, TO, null, 15, null);
+        assertThat(first.getItems().get(14).getStartDate().toLocalDate()).isAfterOrEqualTo(FROM);
+
+        TaskPage second = service.getTasksByDateRange(FROM, TO, first.getNextCursor(), 15, null);
+
+        assertThat(second.getItems()).hasSize(5);
+        assertThat(second.getItems()).allSatisfy(task ->
+                assertThat(task.getStartDate().toLocalDate()).isBetween(FROM, TO));
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    private List<String> pageThrough(int limit) {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPage page = service.getTasksByDateRange(FROM, TO, cursor, limit, null);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(limit);
+            page.getItems().stream().map(TaskSummaryDto::getId).forEach(ids::add);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private void save(LocalDate day, TaskStatus status) {
+        long start = Timestamps.of(day.atTime(9, 0));
+        store.save(Task.builder()
+                .id(new TaskId(0, ++nextId))
+                .title("Task " + nextId)
+                .status(status)
+                .priority(TaskPriority.MEDIUM)
+                .assignedStaffId("staff-1")
+                .startDate(start)
+                .dueDate(Timestamps.plusDays(start, 1))
+                .createdAt(start)
+                .updatedAt(start)
+                .createdBy("test")
+                .activityHistory(new AppendOnlyLog<>())
+                .comments(new AppendOnlyLog<>())
+                .build());
+    }
+}
@@ -0,0 +1,38 @@
+package com.yourcompany.workforcemgmt.service;
+
+import com.yourcompany.workforcemgmt.assignment.StaffLoadBalancer;
+import com.yourcompany.workforcemgmt.deadlines.DeadlineProperties;
+import com.yourcompany.workforcemgmt.deadlines.DeadlineScheduler;
+import com.yourcompany.workforcemgmt.events.StaffEventFeed;
+import com.yourcompany.workforcemgmt.events.TaskEventProperties;
+import com.yourcompany.workforcemgmt.mapper.TaskMapper;
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import com.yourcompany.workforcemgmt.search.TaskSearchIndex;
+import com.yourcompany.workforcemgmt.store.InMemoryTaskStore;
+
+/**
+ * A TaskService over an in-memory store, wired with the same collaborators
+ * the application context gives it, at their default settings
+ */
+public final class TaskServiceFixture {
+
+    private final InMemoryTaskStore store = new InMemoryTaskStore();
+    private final TaskService service;
+
+    public TaskServiceFixture() {
+        TaskMapper mapper = new TaskMapper();
+        MetricsRegistry metrics = new MetricsRegistry();
+        service = new TaskService(store, mapper, new IdGenerator(), new TaskSearchIndex(store),
+                new StaffEventFeed(new TaskEventProperties(), mapper, metrics), new ViewVersions(),
+                new ViewCache(new ViewCacheProperties(), metrics),
+                new DeadlineScheduler(new DeadlineProperties(), metrics), new StaffLoadBalancer(metrics), metrics);
+    }
+
+    public InMemoryTaskStore store() {
+        return store;
+    }
+
+    public TaskService service() {
+        return service;
+    }
+}
@@ -0,0 +1,74 @@
+package com.yourcompany.workforcemgmt.service;
+
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Date-range versions move exactly when a task starting inside the range changes
+ */
+class ViewVersionsTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    private final ViewVersions versions = new ViewVersions();
+
+    @Test
+    void changeMovesRangesEndingOnOrAfterItsDay() {
+        versions.changed(task(DAY.plusDays(5)));
+        long before = versions.dateRange(DAY.plusDays(1));
+        long after = versions.dateRange(DAY.plusDays(9));
+
+        versions.changed(task(DAY));
+
+        assertThat(versions.dateRange(DAY.minusDays(1))).isZero();
+        assertThat(versions.dateRange(DAY.plusDays(1))).isGreaterThan(before);
+        assertThat(versions.dateRange(DAY.plusDays(9))).isGreaterThan(after);
+    }
+
+    @Test
+    void concurrentChangesAreAllCounted() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        versions.changed(task(DAY.plusDays((i * 7 + offset) % 30)));
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Every range covering the last day sees the final global count
+        assertThat(versions.dateRange(DAY.plusDays(29))).isEqualTo(versions.global());
+        for (int day = 1; day < 30; day++) {
+            assertThat(versions.dateRange(DAY.plusDays(day)))
+                    .isGreaterThanOrEqualTo(versions.dateRange(DAY.plusDays(day - 1)));
+        }
+    }
+
+    private static Task task(LocalDate startDay) {
+        return Task.builder()
+                .assignedStaffId("staff-1")
+                .priority(TaskPriority.MEDIUM)
+                .startDate(Timestamps.of(startDay.atTime(9, 0)))
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.yourcompany.workforcemgmt.store;
+
+import com.yourcompany.workforcemgmt.metrics.MetricsRegistry;
+import com.yourcompany.workforcemgmt.model.AppendOnlyLog;
+import com.yourcompany.workforcemgmt.model.Task;
+import com.yourcompany.workforcemgmt.model.TaskId;
+import com.yourcompany.workforcemgmt.model.TaskPriority;
+import com.yourcompany.workforcemgmt.model.TaskStatus;
+import com.yourcompany.workforcemgmt.model.Timestamps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Only writes that change a task reach the journal
+ */
+class JournalingTaskStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private JournalingTaskStore store;
+    private TaskJournal journal;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TaskJournalProperties properties = new TaskJournalProperties();
+        properties.setDirectory(directory.resolve("journal").toString());
+        TaskArchiveProperties archiveProperties = new TaskArchiveProperties();
+        archiveProperties.setDirectory(directory.resolve("archive").toString());
+        store = new JournalingTaskStore(new InMemoryTaskStore(), properties, archiveProperties, new MetricsRegistry());
+        store.open();
+        journal = (TaskJournal) ReflectionTestUtils.getField(store, "journal");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void unchangedTaskIsNotJournalled() {
+        Task task = save(1);
+        long bytes = journal.bytesSinceRotation();
+
+        assertThat(store.update(task.getId().toString(), t -> { })).isSameAs(task);
+        assertThat(journal.bytesSinceRotation()).isEqualTo(bytes);
+
+        store.update(task.getId().toString(), t -> {
+            t.setPriority(TaskPriority.HIGH);
+            t.setVersion(t.getVersion() + 1);
+        });
+        assertThat(journal.bytesSinceRotation()).isGreaterThan(bytes);
+    }
+
+    @Test
+    void batchJournalsOnlyTheTasksItChanged() {
+        List<String> ids = List.of(save(1).getId().toString(), save(2).getId().toString());
+        long bytes = journal.bytesSinceRotation();
+
+        store.updateAll(ids, (i, task) -> { });
+        assertThat(journal.bytesSinceRotation()).isEqualTo(bytes);
+
+        store.updateAll(ids, (i, task) -> {
+            if (i == 1) {
+                task.setStatus(TaskStatus.COMPLETED);
+                task.setVersion(task.getVersion() + 1);
+            }
+        });
+        long oneRecord = journal.bytesSinceRotation() - bytes;
+        assertThat(oneRecord).isPositive();
+
+        store.updateAll(ids, (i, task) -> {
+            task.setPriority(TaskPriority.LOW);
+            task.setVersion(task.getVersion() + 1);
+        });
+        assertThat(journal.bytesSinceRotation() - bytes).isGreaterThan(2 * oneRecord);
+    }
+
+    private Task save(long id) {
+        long now = Timestamps.now();
+        Task task = Task.builder()
+                .id(new TaskId(0, id))
+                .title("Task " + id)
+                .status(TaskStatus.ACTIVE)
+                .priority(TaskPriority.MEDIUM)
+                .assignedStaffId("staff-1")
+                .startDate(now)
+                .dueDate(Timestamps.plusDays(now, 1))
+                .createdAt(now)
+                .updatedAt(now)
+                .createdBy("test")
+                .activityHistory(new AppendOnlyLog<>())
+                .comments(new AppendOnlyLog<>())
+                .build();
+        store.save(task);
+        return task;
+    }
+}